@@ -0,0 +1,27 @@
+package org.example.admin.all;
+
+/**
+ * 관리자 계정(권한/상태/존재 여부) 변경 이벤트
+ * - RootService 의 승인/권한 변경/삭제가 발행하고, 트랜잭션 커밋 후 AdminIdentityCache 가 해당 관리자 캐시를 무효화한다.
+ * - revokeTokens 이면 무효화 후 해당 관리자의 모든 토큰을 한 번 더 폐기한다.
+ *   발행하는 쪽은 트랜잭션 안에서 먼저 폐기하고(실패하면 변경도 롤백), 이 두 번째 폐기는 폐기와 커밋 사이에
+ *   로그인해서 이전 권한으로 새 버전 토큰을 받은 경우를 막는다.
+ */
+public class AdminChangedEvent {
+
+    private final String email;
+    private final boolean revokeTokens;
+
+    public AdminChangedEvent(String email, boolean revokeTokens) {
+        this.email = email;
+        this.revokeTokens = revokeTokens;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isRevokeTokens() {
+        return revokeTokens;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.admin.all;
+
+import org.example.admin.entity.AdminEntity;
+import org.example.entity.BaseEntity;
+
+/**
+ * 관리자 식별 정보 스냅샷 (AdminIdentityCache 보관용, 불변)
+ * - 수정 로그 작성자 등 엔티티가 필요하면 adminId 로 AdminRepository.getReferenceById 를 사용한다. (조회 없음)
+ */
+public class AdminIdentity {
+    private final Long adminId;
+    private final String email;
+    private final String name;
+    private final String password; // 암호화된 비밀번호 (로그인 인증용)
+    private final AdminEntity.Role role;
+    private final BaseEntity.Status status;
+
+    private AdminIdentity(Long adminId, String email, String name, String password,
+                          AdminEntity.Role role, BaseEntity.Status status) {
+        this.adminId = adminId;
+        this.email = email;
+        this.name = name;
+        this.password = password;
+        this.role = role;
+        this.status = status;
+    }
+
+    public static AdminIdentity from(AdminEntity admin) {
+        return new AdminIdentity(admin.getAdminId(), admin.getEmail(), admin.getName(), admin.getPassword(),
+                admin.getRole(), admin.getStatus());
+    }
+
+    public Long getAdminId() {
+        return adminId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public AdminEntity.Role getRole() {
+        return role;
+    }
+
+    public BaseEntity.Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.admin.all;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.admin.repository.AdminRepository;
+import org.example.jwt.TokenBlacklistService;
+import org.example.redis.RedisCircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 식별 정보(이메일 → ID/이름/권한/상태) 캐시
+ * - 요청 범위: 한 요청 안에서는 같은 관리자를 다시 조회하지 않는다. (요청 속성에 보관)
+ * - 서버 메모리: ttl-seconds 동안 재사용한다. (관리자 수만큼만 쌓임, 없는 이메일은 캐시하지 않음)
+ * - 승인/권한 변경/삭제는 커밋 후 AdminChangedEvent 로 무효화하고 Redis pub/sub(admin:identity:events)으로 다른 서버에 전파한다.
+ * - 전파가 유실되어도 ttl-seconds 이후에는 DB 값으로 돌아온다.
+ * - 로그인(토큰 발급)은 findFresh 로 항상 DB 를 읽는다. (이전 권한이나 삭제된 관리자로 토큰이 발급되지 않도록)
+ */
+@Slf4j
+@Component
+public class AdminIdentityCache implements MessageListener {
+
+    public static final String CHANNEL = "admin:identity:events";
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = AdminIdentityCache.class.getName() + ".";
+
+    private final AdminRepository adminRepository;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final long ttlMs;
+
+    // 이메일 → 식별 정보 + 조회 시각
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    // 무효화 횟수 - 조회 도중 무효화되면 읽어 온(이전) 값을 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AdminIdentityCache(AdminRepository adminRepository,
+                              TokenBlacklistService tokenBlacklistService,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              RedisCircuitBreaker circuitBreaker,
+                              @Value("${admin.identity-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.adminRepository = adminRepository;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.circuitBreaker = circuitBreaker;
+        this.ttlMs = ttlSeconds * 1000;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 요청 범위 → 서버 메모리 → DB 순으로 조회
+    public Optional<AdminIdentity> find(String email) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + email;
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (cached != null) {
+                return Optional.of((AdminIdentity) cached);
+            }
+        }
+
+        AdminIdentity identity = findShared(email);
+        if (identity != null && attributes != null) {
+            attributes.setAttribute(attributeName, identity, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.ofNullable(identity);
+    }
+
+    // 서버 메모리 캐시를 건너뛰고 DB 에서 조회 (로그인용) - 조회 결과로 캐시도 갱신
+    public Optional<AdminIdentity> findFresh(String email) {
+        return Optional.ofNullable(load(email, System.currentTimeMillis()));
+    }
+
+    // 변경 트랜잭션 커밋 후 무효화 (롤백되면 캐시 유지), 필요하면 무효화 다음에 토큰 재폐기
+    // 변경 전 토큰은 트랜잭션 안에서 이미 폐기됨 - 여기서 실패하면 폐기~커밋 사이에 발급된 토큰만 남음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAdminChanged(AdminChangedEvent event) {
+        evictLocal(event.getEmail());
+        circuitBreaker.execute(() -> {
+            redisTemplate.convertAndSend(CHANNEL, event.getEmail());
+            return null;
+        }, () -> {
+            // 다른 서버는 ttl-seconds 이후 반영
+            log.warn("[AdminIdentityCache] Redis 장애 - 관리자 캐시 무효화 전파 실패: {}", event.getEmail());
+            return null;
+        });
+
+        if (event.isRevokeTokens()) {
+            try {
+                tokenBlacklistService.blacklistAllActiveTokens(event.getEmail());
+                log.info("[AdminIdentityCache] 활성 토큰 블랙리스트 처리 완료: {}", event.getEmail());
+            } catch (Exception e) {
+                // 변경은 이미 커밋됨 - 커밋 직전에 발급된 토큰이 남아 있을 수 있으므로 운영자가 확인해야 함
+                log.error("[AdminIdentityCache] 활성 토큰 블랙리스트 처리 실패: {}", event.getEmail(), e);
+            }
+        }
+    }
+
+    // 다른 서버의 무효화 메시지 (본문: 이메일)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String email) {
+        invalidations.incrementAndGet();
+        cache.remove(email);
+    }
+
+    private AdminIdentity findShared(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(email);
+        if (entry != null && now - entry.loadedAt < ttlMs) {
+            return entry.identity;
+        }
+
+        return load(email, now);
+    }
+
+    private AdminIdentity load(String email, long now) {
+        long invalidationsBefore = invalidations.get();
+        AdminIdentity identity = adminRepository.findByEmail(email).map(AdminIdentity::from).orElse(null);
+        if (identity == null) {
+            cache.remove(email);
+        } else if (invalidations.get() == invalidationsBefore) {
+            cache.put(email, new Entry(identity, now));
+        }
+        return identity;
+    }
+
+    private static final class Entry {
+        private final AdminIdentity identity;
+        private final long loadedAt;
+
+        private Entry(AdminIdentity identity, long loadedAt) {
+            this.identity = identity;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
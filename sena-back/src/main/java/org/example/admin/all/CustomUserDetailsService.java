@@ -1,8 +1,6 @@
 package org.example.admin.all;
 
 import lombok.RequiredArgsConstructor;
-import org.example.admin.entity.AdminEntity;
-import org.example.admin.repository.AdminRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,12 +10,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final AdminRepository adminRepository;
+    private final AdminIdentityCache adminIdentityCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // DB에서 email로 관리자 조회, 없으면 예외 발생
-        AdminEntity admin = adminRepository.findByEmail(email)
+        // email로 관리자 조회 (로그인은 캐시를 거치지 않고 항상 DB), 없으면 예외 발생
+        AdminIdentity admin = adminIdentityCache.findFresh(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + email));
 
         // UserDetails 객체 생성 및 반환
@@ -0,0 +1,11 @@
+package org.example.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkResultDto {
+    private int created;
+    private int updated;
+}
@@ -0,0 +1,22 @@
+package org.example.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아이템 일괄 등록/수정 한 행
+ * - itemId 가 없으면 신규 등록 (itemName, ruby 필수, 이미지는 이후 개별 수정으로 등록)
+ * - itemId 가 있으면 수정 (값이 있는 항목만 변경)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBulkRowDto {
+    private Long itemId;
+    private String itemName;
+    private Double ruby;
+    private String message;
+}
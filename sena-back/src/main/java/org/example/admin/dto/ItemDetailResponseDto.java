@@ -15,8 +15,11 @@ public class ItemDetailResponseDto extends ItemResponseDto {
     // 이 아이템이 속해 있는 패키지 정보 리스트
     private List<PackageSummaryDto> packages;
 
-    // 이 아이템의 수정 로그 리스트
+    // 이 아이템의 수정 로그 리스트 (최신 첫 페이지)
     private List<UpdateLogDto> updateLogs;
 
+    // 다음 수정 로그 페이지 커서 (없으면 null)
+    private String updateLogsNextCursor;
+
     private BaseEntity.Status status; // 아이템 상태
 }
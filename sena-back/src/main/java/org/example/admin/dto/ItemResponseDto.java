@@ -2,11 +2,13 @@ package org.example.admin.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 
 @Data
 @SuperBuilder
+@NoArgsConstructor
 public class ItemResponseDto {
 
     private Long itemId;
@@ -0,0 +1,25 @@
+package org.example.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 패키지 일괄 등록/수정 한 행
+ * - packageId 가 없으면 신규 등록, 있으면 이름/가격/구성 전체 교체 (단건 패키지 수정과 동일)
+ * - CSV 에서는 items 를 "아이템ID:수량;아이템ID:수량" 형식으로 전달
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageBulkRowDto {
+    private Long packageId;
+    private String packageName;
+    private Double packagePrice;
+    private String message;
+    private List<PackageItemCreateDto> items;
+}
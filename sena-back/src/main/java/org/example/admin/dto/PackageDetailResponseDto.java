@@ -15,6 +15,7 @@ public class PackageDetailResponseDto {
     private Double totalCash;
     private Double packagePrice;
     private List<PackageItemAndStatusDto> items;
-    private List<UpdateLogDto> updateLogList; // 패키지 업데이트 로그 목록
+    private List<UpdateLogDto> updateLogList; // 패키지 업데이트 로그 목록 (최신 첫 페이지)
+    private String updateLogNextCursor; // 다음 로그 페이지 커서 (없으면 null)
     private BaseEntity.Status status; // 패키지 상태
 }
@@ -0,0 +1,204 @@
+package org.example.admin.editor;
+
+import org.example.admin.dto.ItemBulkRowDto;
+import org.example.admin.dto.PackageBulkRowDto;
+import org.example.admin.dto.PackageItemCreateDto;
+import org.example.exception.customException.ValidationFailedException;
+
+import java.util.*;
+
+/**
+ * 일괄 등록/수정용 CSV 파서 (첫 줄은 헤더, 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 지원)
+ * - 아이템: itemId,itemName,ruby,message
+ * - 패키지: packageId,packageName,packagePrice,items,message  (items 예: "3:2;7:1" → 아이템ID:수량)
+ * - 행 번호는 헤더를 제외하고 0부터 (JSON 배열 인덱스와 같음)
+ */
+final class BulkCsvParser {
+
+    private BulkCsvParser() {
+    }
+
+    static List<ItemBulkRowDto> parseItems(String csv) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        List<ItemBulkRowDto> rows = new ArrayList<>();
+        Table table = Table.of(csv, List.of("itemName", "ruby"));
+
+        for (int i = 0; i < table.rows.size(); i++) {
+            rows.add(ItemBulkRowDto.builder()
+                    .itemId(parseLong(table.get(i, "itemId"), i, "itemId", errors))
+                    .itemName(blankToNull(table.get(i, "itemName")))
+                    .ruby(parseDouble(table.get(i, "ruby"), i, "ruby", errors))
+                    .message(blankToNull(table.get(i, "message")))
+                    .build());
+        }
+        throwIfInvalid(errors);
+        return rows;
+    }
+
+    static List<PackageBulkRowDto> parsePackages(String csv) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        List<PackageBulkRowDto> rows = new ArrayList<>();
+        Table table = Table.of(csv, List.of("packageName", "packagePrice", "items"));
+
+        for (int i = 0; i < table.rows.size(); i++) {
+            rows.add(PackageBulkRowDto.builder()
+                    .packageId(parseLong(table.get(i, "packageId"), i, "packageId", errors))
+                    .packageName(blankToNull(table.get(i, "packageName")))
+                    .packagePrice(parseDouble(table.get(i, "packagePrice"), i, "packagePrice", errors))
+                    .items(parsePackageItems(table.get(i, "items"), i, errors))
+                    .message(blankToNull(table.get(i, "message")))
+                    .build());
+        }
+        throwIfInvalid(errors);
+        return rows;
+    }
+
+    // "아이템ID:수량;아이템ID:수량"
+    private static List<PackageItemCreateDto> parsePackageItems(String value, int row, Map<String, String> errors) {
+        List<PackageItemCreateDto> items = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return items;
+        }
+        for (String pair : value.split(";")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] parts = pair.split(":");
+            if (parts.length != 2) {
+                errors.put(field(row, "items"), "구성품 형식이 올바르지 않습니다 (아이템ID:수량): " + pair.trim());
+                continue;
+            }
+            items.add(PackageItemCreateDto.builder()
+                    .itemId(parseLong(parts[0], row, "items", errors))
+                    .quantity(parseLong(parts[1], row, "items", errors))
+                    .build());
+        }
+        return items;
+    }
+
+    private static Long parseLong(String value, int row, String name, Map<String, String> errors) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            errors.put(field(row, name), "숫자가 아닙니다: " + value.trim());
+            return null;
+        }
+    }
+
+    private static Double parseDouble(String value, int row, String name, Map<String, String> errors) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            errors.put(field(row, name), "숫자가 아닙니다: " + value.trim());
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String field(int row, String name) {
+        return "rows[" + row + "]." + name;
+    }
+
+    private static void throwIfInvalid(Map<String, String> errors) {
+        if (!errors.isEmpty()) {
+            throw new ValidationFailedException("입력값이 유효하지 않습니다.", errors);
+        }
+    }
+
+    // 헤더 이름으로 값을 꺼낼 수 있는 CSV 표
+    private static final class Table {
+        private final Map<String, Integer> columns;
+        private final List<List<String>> rows;
+
+        private Table(Map<String, Integer> columns, List<List<String>> rows) {
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        static Table of(String csv, List<String> requiredColumns) {
+            List<List<String>> records = parse(csv == null ? "" : csv);
+            if (records.isEmpty()) {
+                throw new ValidationFailedException("입력값이 유효하지 않습니다.", Map.of("csv", "헤더 행이 없습니다."));
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> header = records.get(0);
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : requiredColumns) {
+                if (!columns.containsKey(required.toLowerCase(Locale.ROOT))) {
+                    throw new ValidationFailedException("입력값이 유효하지 않습니다.", Map.of("csv", "필수 열이 없습니다: " + required));
+                }
+            }
+
+            List<List<String>> rows = new ArrayList<>();
+            for (List<String> record : records.subList(1, records.size())) {
+                // 빈 줄 무시
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rows.add(record);
+            }
+            return new Table(columns, rows);
+        }
+
+        String get(int row, String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            List<String> record = rows.get(row);
+            return index == null || index >= record.size() ? null : record.get(index);
+        }
+
+        private static List<List<String>> parse(String csv) {
+            List<List<String>> records = new ArrayList<>();
+            List<String> record = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+
+            // UTF-8 BOM 제거 (엑셀 저장 파일)
+            int start = csv.startsWith("\uFEFF") ? 1 : 0;
+            for (int i = start; i < csv.length(); i++) {
+                char c = csv.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    record.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    record.add(value.toString());
+                    value.setLength(0);
+                    records.add(record);
+                    record = new ArrayList<>();
+                } else {
+                    value.append(c);
+                }
+            }
+            if (value.length() > 0 || !record.isEmpty()) {
+                record.add(value.toString());
+                records.add(record);
+            }
+            return records;
+        }
+    }
+}
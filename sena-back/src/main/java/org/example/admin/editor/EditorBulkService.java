@@ -0,0 +1,370 @@
+package org.example.admin.editor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.admin.all.AdminIdentityCache;
+import org.example.admin.dto.BulkResultDto;
+import org.example.admin.dto.ItemBulkRowDto;
+import org.example.admin.dto.PackageBulkRowDto;
+import org.example.admin.dto.PackageItemCreateDto;
+import org.example.admin.entity.AdminEntity;
+import org.example.admin.repository.AdminRepository;
+import org.example.common.CatalogChangedEvent;
+import org.example.common.PackageTotals;
+import org.example.entity.*;
+import org.example.exception.customException.AdminNotFoundException;
+import org.example.exception.customException.ValidationFailedException;
+import org.example.repository.ItemRepository;
+import org.example.repository.PackageItemRepository;
+import org.example.repository.PackageRepository;
+import org.example.repository.UpdateLogRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아이템/패키지 일괄 등록·수정
+ * - 모든 행을 먼저 검증하고(아이디/이름은 IN 쿼리 한 번씩), 하나라도 잘못되면 아무것도 반영하지 않고 행별 오류를 반환한다.
+ * - 검증을 통과하면 한 트랜잭션에서 saveAll / 변경 감지로 일괄 반영하고, 수정 로그도 한 번에 저장한다.
+ * - 카탈로그 변경 이벤트는 요청당 한 번만 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EditorBulkService {
+
+    // 한 요청에서 처리할 수 있는 최대 행 수
+    public static final int MAX_ROWS = 1000;
+
+    private final AdminRepository adminRepository;
+    private final ItemRepository itemRepository;
+    private final PackageRepository packageRepository;
+    private final PackageItemRepository packageItemRepository;
+    private final UpdateLogRepository updateLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminIdentityCache adminIdentityCache;
+
+    @Transactional
+    public BulkResultDto upsertItems(List<ItemBulkRowDto> rows) {
+        checkRowCount(rows);
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        // 1. 행 단위 검사 + 요청 안에서의 아이디/이름 중복
+        Set<Long> itemIds = new HashSet<>();
+        Map<String, Integer> nameRows = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ItemBulkRowDto row = rows.get(i);
+            if (row.getItemId() == null) {
+                if (isBlank(row.getItemName())) {
+                    errors.put(field(i, "itemName"), "아이템 이름은 필수입니다.");
+                }
+                if (row.getRuby() == null) {
+                    errors.put(field(i, "ruby"), "루비는 필수입니다.");
+                }
+            } else if (!itemIds.add(row.getItemId())) {
+                errors.put(field(i, "itemId"), "요청 안에서 중복된 아이템입니다: " + row.getItemId());
+            }
+            if (row.getRuby() != null && row.getRuby() < 0) {
+                errors.put(field(i, "ruby"), "루비는 0 이상이어야 합니다.");
+            }
+            if (!isBlank(row.getItemName()) && nameRows.putIfAbsent(nameKey(row.getItemName()), i) != null) {
+                errors.put(field(i, "itemName"), "요청 안에서 중복된 이름입니다: " + row.getItemName());
+            }
+        }
+
+        // 2. 수정 대상 아이템 존재 확인 (IN 쿼리 1회)
+        Map<Long, ItemEntity> existing = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemEntity::getItemId, Function.identity()));
+        for (int i = 0; i < rows.size(); i++) {
+            Long itemId = rows.get(i).getItemId();
+            if (itemId == null) {
+                continue;
+            }
+            ItemEntity item = existing.get(itemId);
+            if (item == null) {
+                errors.put(field(i, "itemId"), "존재하지 않는 아이템입니다: " + itemId);
+            } else if (item.getStatus() == BaseEntity.Status.DELETED) {
+                errors.put(field(i, "itemId"), "이미 삭제된 아이템입니다: " + itemId);
+            }
+        }
+
+        // 3. 다른 아이템과의 이름 중복 확인 (IN 쿼리 1회)
+        if (!nameRows.isEmpty()) {
+            for (ItemEntity conflict : itemRepository.findByItemNameInAndStatusNot(requestedNames(rows, ItemBulkRowDto::getItemName), BaseEntity.Status.DELETED)) {
+                Integer i = nameRows.get(nameKey(conflict.getItemName()));
+                if (i == null) {
+                    // DB 콜레이션이 더 넓게 같다고 본 이름 (악센트 등) - 어느 행인지 특정할 수 없으므로 요청 전체 오류
+                    errors.put("rows", "이미 존재하는 아이템 이름과 겹칩니다: " + conflict.getItemName());
+                } else if (!conflict.getItemId().equals(rows.get(i).getItemId())) {
+                    errors.put(field(i, "itemName"), "이미 존재하는 아이템 이름입니다: " + conflict.getItemName());
+                }
+            }
+        }
+
+        throwIfInvalid(errors);
+
+        // 4. 루비가 바뀌는 아이템의 구성품 - 변경 전 패키지 합계 기여분 기록
+        List<ItemEntity> rubyChanged = new ArrayList<>();
+        for (ItemBulkRowDto row : rows) {
+            if (row.getItemId() != null && row.getRuby() != null) {
+                ItemEntity item = existing.get(row.getItemId());
+                if (!row.getRuby().equals(item.getRuby())) {
+                    rubyChanged.add(item);
+                }
+            }
+        }
+        Map<PackageItemEntity, Double> before = rubyChanged.isEmpty()
+                ? Collections.emptyMap()
+                : PackageTotals.snapshot(packageItemRepository.findByItemInWithPackage(rubyChanged));
+
+        // 5. 반영 (신규는 saveAll, 수정은 변경 감지로 일괄 UPDATE)
+        AdminEntity admin = currentAdmin();
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemEntity> created = new ArrayList<>();
+        List<UpdateLogEntity> updateLogs = new ArrayList<>(rows.size());
+        for (ItemBulkRowDto row : rows) {
+            ItemEntity item;
+            if (row.getItemId() == null) {
+                item = ItemEntity.builder()
+                        .itemName(row.getItemName())
+                        .ruby(row.getRuby())
+                        .status(BaseEntity.Status.ACTIVE)
+                        .build();
+                created.add(item);
+            } else {
+                item = existing.get(row.getItemId());
+                if (!isBlank(row.getItemName())) {
+                    item.setItemName(row.getItemName());
+                }
+                if (row.getRuby() != null) {
+                    item.setRuby(row.getRuby());
+                }
+            }
+            updateLogs.add(UpdateLogEntity.builder()
+                    .updatedAt(now)
+                    .message(messageOf(row.getMessage(), row.getItemId() == null ? "아이템 일괄 등록" : "아이템 일괄 수정"))
+                    .admin(admin)
+                    .item(item)
+                    .build());
+        }
+        itemRepository.saveAll(created);
+        PackageTotals.deltas(before).forEach((packageId, delta) ->
+                packageRepository.addToTotals(packageId, delta, PackageTotals.CASH_PER_RUBY));
+        writeUpdateLogs(updateLogs);
+
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        log.info("아이템 일괄 처리 완료: 등록={}, 수정={}", created.size(), rows.size() - created.size());
+        return BulkResultDto.builder()
+                .created(created.size())
+                .updated(rows.size() - created.size())
+                .build();
+    }
+
+    @Transactional
+    public BulkResultDto upsertPackages(List<PackageBulkRowDto> rows) {
+        checkRowCount(rows);
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        // 1. 행 단위 검사 + 요청 안에서의 아이디/이름 중복
+        Set<Long> packageIds = new HashSet<>();
+        Set<Long> itemIds = new HashSet<>();
+        Map<String, Integer> nameRows = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            PackageBulkRowDto row = rows.get(i);
+            if (row.getPackageId() != null && !packageIds.add(row.getPackageId())) {
+                errors.put(field(i, "packageId"), "요청 안에서 중복된 패키지입니다: " + row.getPackageId());
+            }
+            if (isBlank(row.getPackageName())) {
+                errors.put(field(i, "packageName"), "패키지 이름은 필수입니다.");
+            } else if (nameRows.putIfAbsent(nameKey(row.getPackageName()), i) != null) {
+                errors.put(field(i, "packageName"), "요청 안에서 중복된 이름입니다: " + row.getPackageName());
+            }
+            if (row.getPackagePrice() == null || row.getPackagePrice() < 0) {
+                errors.put(field(i, "packagePrice"), "패키지의 현금가는 0원 이상이어야 합니다.");
+            }
+            if (row.getItems() == null) {
+                errors.put(field(i, "items"), "아이템 목록은 필수입니다.");
+                continue;
+            }
+            Set<Long> seen = new HashSet<>();
+            for (PackageItemCreateDto itemDto : row.getItems()) {
+                if (itemDto.getItemId() == null) {
+                    errors.put(field(i, "items"), "itemId는 필수입니다.");
+                } else if (!seen.add(itemDto.getItemId())) {
+                    errors.put(field(i, "items"), "아이템이 중복되었습니다: " + itemDto.getItemId());
+                }
+                if (itemDto.getQuantity() == null || itemDto.getQuantity() < 1) {
+                    errors.put(field(i, "items"), "수량은 1 이상이어야 합니다.");
+                }
+            }
+            itemIds.addAll(seen);
+        }
+
+        // 2. 수정 대상 패키지 + 구성품 (쿼리 1회)
+        Map<Long, PackageEntity> existing = packageIds.isEmpty()
+                ? Collections.emptyMap()
+                : packageRepository.findAllWithItemsByPackageIdIn(packageIds).stream()
+                .collect(Collectors.toMap(PackageEntity::getPackageId, Function.identity()));
+        for (int i = 0; i < rows.size(); i++) {
+            Long packageId = rows.get(i).getPackageId();
+            if (packageId == null) {
+                continue;
+            }
+            PackageEntity pkg = existing.get(packageId);
+            if (pkg == null) {
+                errors.put(field(i, "packageId"), "존재하지 않는 패키지입니다: " + packageId);
+            } else if (pkg.getStatus() == BaseEntity.Status.DELETED) {
+                errors.put(field(i, "packageId"), "이미 삭제된 패키지입니다: " + packageId);
+            }
+        }
+
+        // 3. 다른 패키지와의 이름 중복 (IN 쿼리 1회)
+        if (!nameRows.isEmpty()) {
+            for (PackageEntity conflict : packageRepository.findByPackageNameInAndStatusNot(requestedNames(rows, PackageBulkRowDto::getPackageName), BaseEntity.Status.DELETED)) {
+                Integer i = nameRows.get(nameKey(conflict.getPackageName()));
+                if (i == null) {
+                    errors.put("rows", "이미 존재하는 패키지 이름과 겹칩니다: " + conflict.getPackageName());
+                } else if (!conflict.getPackageId().equals(rows.get(i).getPackageId())) {
+                    errors.put(field(i, "packageName"), "이미 존재하는 패키지 이름입니다: " + conflict.getPackageName());
+                }
+            }
+        }
+
+        // 4. 구성 아이템 존재 확인 (IN 쿼리 1회)
+        Map<Long, ItemEntity> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemEntity::getItemId, Function.identity()));
+        for (int i = 0; i < rows.size(); i++) {
+            List<PackageItemCreateDto> rowItems = rows.get(i).getItems();
+            if (rowItems == null) {
+                continue;
+            }
+            for (PackageItemCreateDto itemDto : rowItems) {
+                if (itemDto.getItemId() != null && !items.containsKey(itemDto.getItemId())) {
+                    errors.put(field(i, "items"), "아이템을 찾을 수 없습니다: " + itemDto.getItemId());
+                }
+            }
+        }
+
+        throwIfInvalid(errors);
+
+        // 5. 반영 - 구성은 단건 수정과 같이 전체 교체 후 합계 재계산
+        AdminEntity admin = currentAdmin();
+        LocalDateTime now = LocalDateTime.now();
+        List<PackageEntity> created = new ArrayList<>();
+        List<UpdateLogEntity> updateLogs = new ArrayList<>(rows.size());
+        for (PackageBulkRowDto row : rows) {
+            PackageEntity pkg;
+            if (row.getPackageId() == null) {
+                pkg = PackageEntity.builder()
+                        .packageName(row.getPackageName())
+                        .packagePrice(row.getPackagePrice())
+                        .status(BaseEntity.Status.ACTIVE)
+                        .build();
+                created.add(pkg);
+            } else {
+                pkg = existing.get(row.getPackageId());
+                pkg.setPackageName(row.getPackageName());
+                pkg.setPackagePrice(row.getPackagePrice());
+                pkg.getPackageItems().clear(); // orphanRemoval = true 이므로 삭제 처리 됨
+            }
+            for (PackageItemCreateDto itemDto : row.getItems()) {
+                pkg.getPackageItems().add(PackageItemEntity.builder()
+                        .packageEntity(pkg)
+                        .item(items.get(itemDto.getItemId()))
+                        .quantity(itemDto.getQuantity())
+                        .status(BaseEntity.Status.ACTIVE)
+                        .build());
+            }
+            PackageTotals.recalculate(pkg);
+
+            updateLogs.add(UpdateLogEntity.builder()
+                    .updatedAt(now)
+                    .message(messageOf(row.getMessage(), row.getPackageId() == null ? "패키지 일괄 등록" : "패키지 일괄 수정"))
+                    .admin(admin)
+                    .packageEntity(pkg)
+                    .build());
+        }
+        packageRepository.saveAll(created);
+        writeUpdateLogs(updateLogs);
+
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        log.info("패키지 일괄 처리 완료: 등록={}, 수정={}", created.size(), rows.size() - created.size());
+        return BulkResultDto.builder()
+                .created(created.size())
+                .updated(rows.size() - created.size())
+                .build();
+    }
+
+    // 수정 로그 일괄 저장 + 대상의 최근 수정 로그 갱신
+    private void writeUpdateLogs(List<UpdateLogEntity> updateLogs) {
+        updateLogRepository.saveAll(updateLogs);
+        for (UpdateLogEntity updateLog : updateLogs) {
+            if (updateLog.getItem() != null) {
+                updateLog.getItem().setLastUpdateLog(updateLog);
+            }
+            if (updateLog.getPackageEntity() != null) {
+                updateLog.getPackageEntity().setLastUpdateLog(updateLog);
+            }
+        }
+    }
+
+    private AdminEntity currentAdmin() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Long adminId = adminIdentityCache.find(email)
+                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."))
+                .getAdminId();
+        // 수정 로그 작성자 지정용 - 조회 없이 프록시로
+        return adminRepository.getReferenceById(adminId);
+    }
+
+    private void checkRowCount(List<?> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new ValidationFailedException("입력값이 유효하지 않습니다.", Map.of("rows", "처리할 행이 없습니다."));
+        }
+        if (rows.size() > MAX_ROWS) {
+            throw new ValidationFailedException("입력값이 유효하지 않습니다.",
+                    Map.of("rows", "한 번에 최대 " + MAX_ROWS + "건까지 처리할 수 있습니다."));
+        }
+    }
+
+    private void throwIfInvalid(Map<String, String> errors) {
+        if (!errors.isEmpty()) {
+            log.warn("일괄 처리 검증 실패: {}건", errors.size());
+            throw new ValidationFailedException("입력값이 유효하지 않습니다.", errors);
+        }
+    }
+
+    // 이름 비교 키 - DB 콜레이션(대소문자 무시, 끝 공백 무시)과 같은 기준으로 중복을 판단
+    static String nameKey(String name) {
+        return name.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    // 이름 중복 조회 조건 - 요청에 적힌 이름 그대로 (비교는 DB 콜레이션이 수행)
+    private static <T> Set<String> requestedNames(List<T> rows, Function<T, String> name) {
+        Set<String> names = new HashSet<>();
+        for (T row : rows) {
+            if (!isBlank(name.apply(row))) {
+                names.add(name.apply(row));
+            }
+        }
+        return names;
+    }
+
+    private static String field(int row, String name) {
+        return "rows[" + row + "]." + name;
+    }
+
+    private static String messageOf(String message, String defaultMessage) {
+        return isBlank(message) ? defaultMessage : message;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
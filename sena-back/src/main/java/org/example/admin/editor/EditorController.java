@@ -2,10 +2,9 @@ package org.example.admin.editor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.admin.dto.ItemRequestDto;
-import org.example.admin.dto.PackageCreateRequestDto;
-import org.example.admin.dto.StatusRequest;
+import org.example.admin.dto.*;
 import org.example.exception.customException.InvalidFileException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -21,6 +21,7 @@ import javax.validation.Valid;
 public class EditorController {
 
     private final EditorService editorService;
+    private final EditorBulkService editorBulkService;
 
     /**
      * 아이템 등록 및 수정 기능을 제공하는 API입니다.
@@ -83,6 +84,43 @@ public class EditorController {
         return ResponseEntity.ok("아이템 삭제 완료");
     }
 
+    /**
+     * 아이템/패키지 일괄 등록·수정 API입니다. (JSON 배열 또는 CSV, 전체 검증 후 한 트랜잭션으로 반영)
+     */
+    // 아이템 일괄 등록/수정 - JSON 배열
+    @PostMapping(value = "/items/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkItems(@RequestBody List<ItemBulkRowDto> rows) {
+        log.info("아이템 일괄 처리 요청: {}건", rows.size());
+        BulkResultDto result = editorBulkService.upsertItems(rows);
+        return ResponseEntity.ok(result);
+    }
+
+    // 아이템 일괄 등록/수정 - CSV (itemId,itemName,ruby,message)
+    @PostMapping(value = "/items/bulk", consumes = "text/csv")
+    public ResponseEntity<?> bulkItemsCsv(@RequestBody String csv) {
+        List<ItemBulkRowDto> rows = BulkCsvParser.parseItems(csv);
+        log.info("아이템 일괄 처리 요청(CSV): {}건", rows.size());
+        BulkResultDto result = editorBulkService.upsertItems(rows);
+        return ResponseEntity.ok(result);
+    }
+
+    // 패키지 일괄 등록/수정 - JSON 배열
+    @PostMapping(value = "/packages/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkPackages(@RequestBody List<PackageBulkRowDto> rows) {
+        log.info("패키지 일괄 처리 요청: {}건", rows.size());
+        BulkResultDto result = editorBulkService.upsertPackages(rows);
+        return ResponseEntity.ok(result);
+    }
+
+    // 패키지 일괄 등록/수정 - CSV (packageId,packageName,packagePrice,items,message)
+    @PostMapping(value = "/packages/bulk", consumes = "text/csv")
+    public ResponseEntity<?> bulkPackagesCsv(@RequestBody String csv) {
+        List<PackageBulkRowDto> rows = BulkCsvParser.parsePackages(csv);
+        log.info("패키지 일괄 처리 요청(CSV): {}건", rows.size());
+        BulkResultDto result = editorBulkService.upsertPackages(rows);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 패키지 등록, 수정, 삭제 기능을 제공하는 API입니다.
      */
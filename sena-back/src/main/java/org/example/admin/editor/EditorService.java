@@ -3,17 +3,21 @@ package org.example.admin.editor;
 import com.google.firebase.cloud.StorageClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.admin.all.AdminIdentityCache;
 import org.example.admin.dto.ItemRequestDto;
 import org.example.admin.dto.PackageCreateRequestDto;
 import org.example.admin.dto.PackageItemCreateDto;
 import org.example.admin.entity.AdminEntity;
 import org.example.admin.repository.AdminRepository;
+import org.example.common.CatalogChangedEvent;
+import org.example.common.PackageTotals;
 import org.example.entity.*;
 import org.example.exception.customException.*;
 import org.example.repository.ItemRepository;
 import org.example.repository.PackageItemRepository;
 import org.example.repository.PackageRepository;
 import org.example.repository.UpdateLogRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,14 +41,15 @@ public class EditorService {
     private final UpdateLogRepository updateLogRepository;
     private final PackageRepository packageRepository;
     private final PackageItemRepository packageItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminIdentityCache adminIdentityCache;
 
 
     @Transactional
     public void createItem(ItemRequestDto itemDto, MultipartFile file) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 해당 아이템 중복 체크
         String itemName = itemDto.getItemName();
@@ -75,11 +80,39 @@ public class EditorService {
                 .item(itemEntity)
                 .build();
 
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("아이템 생성 완료: {}", itemName);
     }
 
+    // 현재 관리자 엔티티 참조 - 식별 정보는 캐시에서, 엔티티는 조회 없이 프록시로 (수정 로그 작성자 지정용)
+    private AdminEntity adminReference(String email) {
+        Long adminId = adminIdentityCache.find(email)
+                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."))
+                .getAdminId();
+        return adminRepository.getReferenceById(adminId);
+    }
+
+    // 수정 로그 저장 + 대상 아이템/패키지의 최근 수정 로그 갱신 (목록 조회 시 로그 전체를 읽지 않도록)
+    private void writeUpdateLog(UpdateLogEntity updateLog) {
+        updateLogRepository.save(updateLog);
+        if (updateLog.getItem() != null) {
+            updateLog.getItem().setLastUpdateLog(updateLog);
+        }
+        if (updateLog.getPackageEntity() != null) {
+            updateLog.getPackageEntity().setLastUpdateLog(updateLog);
+        }
+    }
+
+    // 아이템 상태를 구성품/패키지 합계에 반영 - 엔티티를 읽지 않고 UPDATE 두 번으로 처리
+    private void cascadeItemStatus(Long itemId, BaseEntity.Status status) {
+        List<Long> itemIds = List.of(itemId);
+        int packageItems = packageItemRepository.updateStatusByItemIds(itemIds, status, LocalDateTime.now());
+        packageRepository.recalculateTotalsForItems(itemIds, PackageTotals.CASH_PER_RUBY);
+        log.info("구성품 상태 일괄 변경: itemId={}, 구성품 수={}", itemId, packageItems);
+    }
+
     // 이미지 업로드 메소드
     private String uploadImage(MultipartFile file, String itemName) {
         try (InputStream inputStream = file.getInputStream()) {
@@ -127,8 +160,7 @@ public class EditorService {
     public void updateItem(Long itemId, String itemName, Double ruby, String message, MultipartFile file) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 아이템 조회
         ItemEntity itemEntity = itemRepository.findById(itemId)
@@ -164,8 +196,13 @@ public class EditorService {
             }
             itemEntity.setItemName(itemName);
         }
-        if (ruby != null) {
+        if (ruby != null && !ruby.equals(itemEntity.getRuby())) {
+            // 루비 변경분을 이 아이템이 포함된 패키지 합계에 반영
+            List<PackageItemEntity> relatedPackageItems = packageItemRepository.findByItemWithPackage(itemEntity);
+            Map<PackageItemEntity, Double> before = PackageTotals.snapshot(relatedPackageItems);
             itemEntity.setRuby(ruby);
+            PackageTotals.deltas(before).forEach((packageId, delta) ->
+                    packageRepository.addToTotals(packageId, delta, PackageTotals.CASH_PER_RUBY));
         }
         if (imageUrl != null) {
             itemEntity.setImg(imageUrl);
@@ -179,8 +216,9 @@ public class EditorService {
                 .admin(adminEntity)
                 .item(itemEntity)
                 .build();
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("아이템 수정 완료: {}", itemEntity.getItemName());
     }
     // 아이템 상태 변경
@@ -188,8 +226,7 @@ public class EditorService {
     public void changeItemStatus(Long itemId, BaseEntity.Status status) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 아이템 조회
         ItemEntity itemEntity = itemRepository.findById(itemId)
@@ -207,22 +244,20 @@ public class EditorService {
         itemEntity.setStatus(status);
         itemRepository.save(itemEntity);
 
-        // 4. 아이템이 포함된 모든 패키지 아이템도 상태 동기화
-        List<PackageItemEntity> relatedPackageItems = packageItemRepository.findByItem(itemEntity);
-        for (PackageItemEntity pi : relatedPackageItems) {
-            pi.setStatus(status);
-        }
-        packageItemRepository.saveAll(relatedPackageItems);
-
-        // 5. 상태 변경 로그 작성
+        // 4. 상태 변경 로그 작성
         UpdateLogEntity updateLog = UpdateLogEntity.builder()
                 .updatedAt(LocalDateTime.now())
                 .message("아이템 상태 변경: " + status)
                 .admin(adminEntity)
                 .item(itemEntity)
                 .build();
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
+
+        // 5. 아이템이 포함된 모든 패키지 아이템 상태 동기화 + 패키지 합계 재계산 (각각 단일 UPDATE)
+        // 위 변경은 먼저 flush 되고, 이후 영속성 컨텍스트는 비워짐
+        cascadeItemStatus(itemId, status);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("아이템 및 관련 패키지아이템 상태 변경 완료: itemId={}, newStatus={}", itemId, status);
     }
 
@@ -258,8 +293,7 @@ public class EditorService {
     public void deleteItem(Long itemId) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 아이템 조회
         ItemEntity itemEntity = itemRepository.findById(itemId)
@@ -274,22 +308,19 @@ public class EditorService {
         itemEntity.setStatus(BaseEntity.Status.DELETED);
         itemRepository.save(itemEntity);
 
-        // ✅ 4. 아이템이 속한 모든 PackageItemEntity 상태도 함께 DELETED 처리
-        List<PackageItemEntity> relatedPackageItems = packageItemRepository.findByItem(itemEntity);
-        for (PackageItemEntity pi : relatedPackageItems) {
-            pi.setStatus(BaseEntity.Status.DELETED);
-        }
-        packageItemRepository.saveAll(relatedPackageItems);
-
-        // 5. 삭제 로그 작성
+        // 4. 삭제 로그 작성
         UpdateLogEntity updateLog = UpdateLogEntity.builder()
                 .updatedAt(LocalDateTime.now())
                 .message("아이템 삭제 처리")
                 .admin(adminEntity)
                 .item(itemEntity)
                 .build();
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
 
+        // ✅ 5. 아이템이 속한 모든 PackageItemEntity 상태도 함께 DELETED 처리 + 패키지 합계 재계산
+        cascadeItemStatus(itemId, BaseEntity.Status.DELETED);
+
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("아이템 삭제 완료: itemId={}, itemName={}", itemId, itemEntity.getItemName());
     }
 
@@ -298,8 +329,7 @@ public class EditorService {
     public void createPackage(PackageCreateRequestDto dto) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 패키지 이름 중복 체크
         if (packageRepository.existsByPackageNameAndStatusNot(dto.getPackageName(), BaseEntity.Status.DELETED)) {
@@ -330,8 +360,9 @@ public class EditorService {
                 })
                 .collect(Collectors.toList());
 
-        // 패키지에 아이템 리스트 설정
+        // 패키지에 아이템 리스트 설정 + 총 루비/현금가 계산
         newPackage.setPackageItems(packageItems);
+        PackageTotals.recalculate(newPackage);
 
         // 패키지 저장 (cascade 설정에 따라 packageItems도 저장됨)
         packageRepository.save(newPackage);
@@ -344,8 +375,9 @@ public class EditorService {
                 .packageEntity(newPackage)  // 연관 관계 설정 필요
                 .build();
 
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("패키지 생성 완료: {}", dto.getPackageName());
     }
 
@@ -357,8 +389,7 @@ public class EditorService {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         log.info("현재 관리자 email: {}", email);
-        AdminEntity admin = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity admin = adminReference(email);
 
         // 1. 패키지 조회
         PackageEntity pkg = packageRepository.findById(packageId)
@@ -411,6 +442,9 @@ public class EditorService {
             log.info("새 아이템 추가: itemId={}, quantity={}", itemDto.getItemId(), itemDto.getQuantity());
         }
 
+        // 5-1. 새 구성으로 총 루비/현금가 재계산
+        PackageTotals.recalculate(pkg);
+
 //        // 6. 저장
 //        packageRepository.save(pkg);
 //        log.info("패키지 저장 완료");
@@ -437,13 +471,14 @@ public class EditorService {
             logMsg.append(dto.getMessage());
         }
 
-        updateLogRepository.save(UpdateLogEntity.builder()
+        writeUpdateLog(UpdateLogEntity.builder()
                 .updatedAt(LocalDateTime.now())
                 .message(logMsg.toString())
                 .admin(admin)
                 .packageEntity(pkg)
                 .build());
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("패키지 수정 완료: {}", pkg.getPackageName());
     }
 
@@ -453,8 +488,7 @@ public class EditorService {
     public void deletePackage(Long packageId) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 패키지 조회
         PackageEntity packageEntity = packageRepository.findById(packageId)
@@ -476,8 +510,9 @@ public class EditorService {
                 .admin(adminEntity)
                 .packageEntity(packageEntity)  // 연관 관계 설정 필요
                 .build();
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("패키지 삭제 완료: packageId={}, packageName={}", packageId, packageEntity.getPackageName());
     }
 
@@ -486,8 +521,7 @@ public class EditorService {
     public void changePackageStatus(Long packageId, BaseEntity.Status status) {
         // 0. 현재 작업하는 관리자 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        AdminEntity adminEntity = adminRepository.findByEmail(email)
-                .orElseThrow(() -> new AdminNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        AdminEntity adminEntity = adminReference(email);
 
         // 1. 패키지 조회
         PackageEntity packageEntity = packageRepository.findById(packageId)
@@ -511,7 +545,8 @@ public class EditorService {
                 .admin(adminEntity)
                 .packageEntity(packageEntity)  // 연관 관계 설정 필요
                 .build();
-        updateLogRepository.save(updateLog);
+        writeUpdateLog(updateLog);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         log.info("패키지 상태 변경 완료: packageId={}, newStatus={}", packageId, status);
     }
 }
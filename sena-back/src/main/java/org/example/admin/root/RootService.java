@@ -3,6 +3,7 @@ package org.example.admin.root;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.admin.all.AdminChangedEvent;
 import org.example.admin.dto.*;
 import org.example.admin.entity.AdminEntity;
 import org.example.admin.entity.PendingAdminEntity;
@@ -10,6 +11,7 @@ import org.example.admin.repository.AdminRepository;
 import org.example.admin.repository.PendingAdminRepository;
 import org.example.exception.customException.*;
 import org.example.jwt.TokenBlacklistService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -28,6 +30,7 @@ public class RootService {
     private final AdminRepository adminRepository;
     private final PendingAdminRepository pendingAdminRepository;
     private final TokenBlacklistService tokenBlacklistService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // root 권한을 가진 유저의 회원가입 목록 요청
     public SignListResponseWrapperDto getSignList() {
@@ -72,6 +75,9 @@ public class RootService {
             adminRepository.save(newAdmin);
             pendingAdminRepository.delete(pendingAdmin);
 
+            // 같은 이메일의 이전 조회 결과가 캐시에 남지 않도록 (커밋 후 무효화)
+            eventPublisher.publishEvent(new AdminChangedEvent(newAdmin.getEmail(), false));
+
             log.info("회원가입 승인 완료: {}", newAdmin);
         }
     }
@@ -150,10 +156,12 @@ public class RootService {
         admin.setRole(AdminEntity.Role.valueOf(role));
         adminRepository.save(admin);
 
-        // 활성 토큰 블랙리스트 처리
+        // 활성 토큰 블랙리스트 처리 - Redis 장애 시 예외로 권한 변경도 롤백 (이전 권한 토큰이 남지 않도록)
         tokenBlacklistService.blacklistAllActiveTokens(admin.getEmail());
+        // 커밋 전에 이전 권한으로 로그인한 토큰은 커밋 후 캐시 무효화 다음에 한 번 더 폐기 (AdminIdentityCache)
+        eventPublisher.publishEvent(new AdminChangedEvent(admin.getEmail(), true));
 
-        log.info("관리자 권한 변경 완료 및 활성 토큰 블랙리스트 처리: {} -> {}", admin.getName(), role);
+        log.info("관리자 권한 변경 완료 (활성 토큰 블랙리스트 처리): {} -> {}", admin.getName(), role);
     }
 
 
@@ -167,10 +175,10 @@ public class RootService {
         adminRepository.delete(admin);
         log.info("관리자 삭제 완료: {}", admin.getName());
 
-        // 활성 토큰 블랙리스트 처리
+        // 활성 토큰 블랙리스트 처리 - Redis 장애 시 예외로 삭제도 롤백
         tokenBlacklistService.blacklistAllActiveTokens(email);
-
-        log.info("관리자 삭제 후 활성 토큰 블랙리스트 처리 완료: {}", email);
+        // 커밋 전에 로그인한 토큰은 커밋 후 한 번 더 폐기 (AdminIdentityCache)
+        eventPublisher.publishEvent(new AdminChangedEvent(email, true));
     }
 
 }
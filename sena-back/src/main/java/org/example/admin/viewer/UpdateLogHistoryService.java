@@ -0,0 +1,157 @@
+package org.example.admin.viewer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.admin.dto.UpdateLogDto;
+import org.example.admin.entity.QAdminEntity;
+import org.example.common.SeekCursor;
+import org.example.common.dto.CursorPageResponseDto;
+import org.example.entity.QUpdateLogEntity;
+import org.example.exception.customException.ItemNotFoundException;
+import org.example.exception.customException.PackageNotFoundException;
+import org.example.repository.ItemRepository;
+import org.example.repository.PackageRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 아이템/패키지 수정 이력 조회
+ * - 최신순 (updated_at, update_log_id) 키셋 커서 페이지네이션 - (item_id, updated_at) / (package_id, updated_at) 인덱스 사용
+ * - 내보내기는 EXPORT_CHUNK_SIZE 건씩 읽으면서 JSON 배열로 바로 스트리밍 (전체 이력을 메모리에 올리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UpdateLogHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final JPAQueryFactory queryFactory;
+    private final ItemRepository itemRepository;
+    private final PackageRepository packageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<UpdateLogDto> getItemUpdateLogs(Long itemId, String cursor, int size) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new ItemNotFoundException("해당 아이템이 존재하지 않습니다.");
+        }
+        return getPage(QUpdateLogEntity.updateLogEntity.item.itemId.eq(itemId), SeekCursor.decode(cursor), size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<UpdateLogDto> getPackageUpdateLogs(Long packageId, String cursor, int size) {
+        if (!packageRepository.existsById(packageId)) {
+            throw new PackageNotFoundException("해당 패키지가 존재하지 않습니다. packageId=" + packageId);
+        }
+        return getPage(QUpdateLogEntity.updateLogEntity.packageEntity.packageId.eq(packageId), SeekCursor.decode(cursor), size);
+    }
+
+    public StreamingResponseBody exportItemUpdateLogs(Long itemId) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new ItemNotFoundException("해당 아이템이 존재하지 않습니다.");
+        }
+        return export(QUpdateLogEntity.updateLogEntity.item.itemId.eq(itemId));
+    }
+
+    public StreamingResponseBody exportPackageUpdateLogs(Long packageId) {
+        if (!packageRepository.existsById(packageId)) {
+            throw new PackageNotFoundException("해당 패키지가 존재하지 않습니다. packageId=" + packageId);
+        }
+        return export(QUpdateLogEntity.updateLogEntity.packageEntity.packageId.eq(packageId));
+    }
+
+    private CursorPageResponseDto<UpdateLogDto> getPage(BooleanExpression owner, SeekCursor cursor, int size) {
+        int pageSize = size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Tuple> rows = fetchChunk(owner, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return CursorPageResponseDto.<UpdateLogDto>builder()
+                .content(rows.stream().map(this::toDto).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf(rows.get(rows.size() - 1)) : null)
+                .build();
+    }
+
+    // 응답 스레드에서 청크 단위로 조회하며 바로 기록 (청크마다 짧은 조회만 수행하고 트랜잭션을 오래 잡지 않음)
+    private StreamingResponseBody export(BooleanExpression owner) {
+        return outputStream -> {
+            long written = 0;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                SeekCursor cursor = null;
+                while (true) {
+                    List<Tuple> rows = fetchChunk(owner, cursor, EXPORT_CHUNK_SIZE);
+                    for (Tuple row : rows) {
+                        generator.writeObject(toDto(row));
+                    }
+                    written += rows.size();
+                    generator.flush();
+                    if (rows.size() < EXPORT_CHUNK_SIZE) {
+                        break;
+                    }
+                    Tuple last = rows.get(rows.size() - 1);
+                    cursor = new SeekCursor(last.get(QUpdateLogEntity.updateLogEntity.updatedAt),
+                            last.get(QUpdateLogEntity.updateLogEntity.updateLogId));
+                }
+                generator.writeEndArray();
+            }
+            log.info("수정 이력 내보내기 완료: {}건", written);
+        };
+    }
+
+    // 커서 이후(더 오래된) 로그 limit 건 - 엔티티 대신 필요한 컬럼만 조회
+    private List<Tuple> fetchChunk(BooleanExpression owner, SeekCursor cursor, int limit) {
+        QUpdateLogEntity u = QUpdateLogEntity.updateLogEntity;
+        QAdminEntity admin = QAdminEntity.adminEntity;
+
+        BooleanBuilder condition = new BooleanBuilder(owner).and(u.updatedAt.isNotNull());
+        if (cursor != null) {
+            condition.and(u.updatedAt.lt(cursor.getTime())
+                    .or(u.updatedAt.eq(cursor.getTime()).and(u.updateLogId.lt(cursor.getId()))));
+        }
+
+        return queryFactory.select(u.updateLogId, u.updatedAt, u.message, admin.name)
+                .from(u)
+                .join(u.admin, admin)
+                .where(condition)
+                .orderBy(u.updatedAt.desc(), u.updateLogId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private UpdateLogDto toDto(Tuple row) {
+        QUpdateLogEntity u = QUpdateLogEntity.updateLogEntity;
+        return UpdateLogDto.builder()
+                .adminName(row.get(QAdminEntity.adminEntity.name))
+                .updatedAt(String.valueOf(row.get(u.updatedAt)))
+                .message(row.get(u.message))
+                .build();
+    }
+
+    private String cursorOf(Tuple row) {
+        QUpdateLogEntity u = QUpdateLogEntity.updateLogEntity;
+        LocalDateTime updatedAt = row.get(u.updatedAt);
+        Long id = row.get(u.updateLogId);
+        return new SeekCursor(updatedAt, id).encode();
+    }
+}
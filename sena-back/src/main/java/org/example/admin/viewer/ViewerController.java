@@ -3,9 +3,13 @@ package org.example.admin.viewer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.admin.dto.*;
+import org.example.common.dto.CursorPageResponseDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -20,6 +24,7 @@ import java.util.Map;
 public class ViewerController {
 
     private final ViewerService viewerService;
+    private final UpdateLogHistoryService updateLogHistoryService;
 
     //권한을 체크하는 요청
     @GetMapping("/status")
@@ -68,6 +73,48 @@ public class ViewerController {
         return ResponseEntity.ok(packageDetail);
     }
 
+    // 아이템 수정 이력 (최신순 커서 페이지)
+    @GetMapping("/items/{itemId}/update-logs")
+    public ResponseEntity<?> getItemUpdateLogs(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponseDto<UpdateLogDto> logs = updateLogHistoryService.getItemUpdateLogs(itemId, cursor, size);
+        return ResponseEntity.ok(logs);
+    }
+
+    // 아이템 수정 이력 전체 내보내기 (JSON 배열 스트리밍)
+    @GetMapping("/items/{itemId}/update-logs/export")
+    public ResponseEntity<StreamingResponseBody> exportItemUpdateLogs(@PathVariable Long itemId) {
+        log.info("아이템 수정 이력 내보내기 요청: itemId={}", itemId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"item-" + itemId + "-update-logs.json\"")
+                .body(updateLogHistoryService.exportItemUpdateLogs(itemId));
+    }
+
+    // 패키지 수정 이력 (최신순 커서 페이지)
+    @GetMapping("/packages/{packageId}/update-logs")
+    public ResponseEntity<?> getPackageUpdateLogs(
+            @PathVariable Long packageId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponseDto<UpdateLogDto> logs = updateLogHistoryService.getPackageUpdateLogs(packageId, cursor, size);
+        return ResponseEntity.ok(logs);
+    }
+
+    // 패키지 수정 이력 전체 내보내기 (JSON 배열 스트리밍)
+    @GetMapping("/packages/{packageId}/update-logs/export")
+    public ResponseEntity<StreamingResponseBody> exportPackageUpdateLogs(@PathVariable Long packageId) {
+        log.info("패키지 수정 이력 내보내기 요청: packageId={}", packageId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"package-" + packageId + "-update-logs.json\"")
+                .body(updateLogHistoryService.exportPackageUpdateLogs(packageId));
+    }
+
     // 로그아웃
     @PostMapping("/logout")
     public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) throws IOException {
@@ -2,9 +2,10 @@ package org.example.admin.viewer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.admin.all.AdminIdentity;
+import org.example.admin.all.AdminIdentityCache;
 import org.example.admin.dto.*;
-import org.example.admin.entity.AdminEntity;
-import org.example.admin.repository.AdminRepository;
+import org.example.common.dto.CursorPageResponseDto;
 import org.example.entity.*;
 import org.example.exception.customException.*;
 import org.example.jwt.TokenBlacklistService;
@@ -27,14 +28,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ViewerService {
 
-    private final AdminRepository adminRepository;
     private final ItemRepository itemRepository;
     private final PackageRepository packageRepository;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UpdateLogHistoryService updateLogHistoryService;
+    private final AdminIdentityCache adminIdentityCache;
 
     public void checkStatus(String email) {
-        // 이메일로 해당 관리자 계정 조회
-        AdminEntity admin = adminRepository.findByEmail(email)
+        // 이메일로 해당 관리자 계정 조회 (캐시 → DB)
+        AdminIdentity admin = adminIdentityCache.find(email)
                 .orElseThrow(() -> new AdminNotFoundException("해당 이메일의 관리자가 존재하지 않습니다."));
 
         //해당 유저의 상태가 ACTIVE인지 확인
@@ -49,7 +51,8 @@ public class ViewerService {
     // 아이템 전체 목록 반환 - 관리자 관점
     @Transactional(readOnly = true)
     public List<AdminItemResponseDto> getItemList() {
-        List<ItemEntity> itemEntities = itemRepository.findByStatusNot(BaseEntity.Status.DELETED);
+        // 최근 수정 로그를 함께 조회 (아이템당 로그 전체를 읽지 않음)
+        List<ItemEntity> itemEntities = itemRepository.findWithLastUpdateByStatusNot(BaseEntity.Status.DELETED);
 
         if (itemEntities.isEmpty()) {
             log.info("아이템 목록이 비어 있습니다.");
@@ -58,10 +61,7 @@ public class ViewerService {
 
         return itemEntities.stream()
                 .map(item -> {
-                    UpdateLogEntity latestLog = item.getUpdateLogs().stream()
-                            .filter(log -> log.getUpdatedAt() != null)
-                            .max(Comparator.comparing(UpdateLogEntity::getUpdatedAt))
-                            .orElse(null);
+                    UpdateLogEntity latestLog = item.getLastUpdateLog();
 
                     return AdminItemResponseDto.builder()
                             .itemId(item.getItemId())
@@ -81,18 +81,16 @@ public class ViewerService {
     public AdminPackageResponseDto getPackageInfo() {
         log.info("1. 삭제되지 않은 패키지 조회 시작");
 
-        List<PackageEntity> packageEntities = packageRepository.findByStatusNot(BaseEntity.Status.DELETED);
+        // 구성품/아이템/최근 수정 로그를 한 번에 조회
+        List<PackageEntity> packageEntities = packageRepository.findWithItemsAndLastUpdateByStatusNot(BaseEntity.Status.DELETED);
         log.info("2. 조회된 패키지 수: {}", packageEntities.size());
 
         List<AdminPackageDto> packageDtos = packageEntities.stream()
                 .map(pkg -> {
                     log.info("3. 패키지 ID: {}, 이름: {}", pkg.getPackageId(), pkg.getPackageName());
 
-                    // 최신 업데이트 로그 찾기
-                    UpdateLogEntity latestLog = pkg.getUpdateLogs().stream()
-                            .filter(log -> log.getUpdatedAt() != null)
-                            .max(Comparator.comparing(UpdateLogEntity::getUpdatedAt))
-                            .orElse(null);
+                    // 최신 업데이트 로그
+                    UpdateLogEntity latestLog = pkg.getLastUpdateLog();
 
                     // DELETED가 아닌 패키지 아이템만 필터링
                     List<AdminPackageItemDto> adminItemDtos = pkg.getPackageItems().stream()
@@ -107,20 +105,11 @@ public class ViewerService {
                                     .build())
                             .collect(Collectors.toList());
 
-                    // 총 루비 계산: ACTIVE 아이템만 대상으로 함
-                    double totalRuby = pkg.getPackageItems().stream()
-                            .filter(pi -> pi.getStatus() != BaseEntity.Status.DELETED)
-                            .filter(pi -> pi.getItem().getStatus() == BaseEntity.Status.ACTIVE)
-                            .mapToDouble(pi -> pi.getItem().getRuby() * pi.getQuantity())
-                            .sum();
-
-                    double totalCash = totalRuby * 7.5;
-
                     return AdminPackageDto.builder()
                             .packageId(pkg.getPackageId())
                             .packageName(pkg.getPackageName())
-                            .totalRuby(totalRuby)
-                            .totalCash(totalCash)
+                            .totalRuby(pkg.getTotalRuby())
+                            .totalCash(pkg.getTotalCash())
                             .packagePrice(pkg.getPackagePrice())
                             .items(adminItemDtos)
                             .status(pkg.getStatus())
@@ -133,8 +122,10 @@ public class ViewerService {
 
         log.info("4. 패키지 DTO 생성 완료");
 
+        // 패키지별 최근 수정 로그 중 가장 최근 시각
         LocalDateTime latestUpdated = packageEntities.stream()
-                .flatMap(pkg -> pkg.getUpdateLogs().stream())
+                .map(PackageEntity::getLastUpdateLog)
+                .filter(Objects::nonNull)
                 .map(UpdateLogEntity::getUpdatedAt)
                 .filter(Objects::nonNull)
                 .max(LocalDateTime::compareTo)
@@ -165,17 +156,11 @@ public class ViewerService {
 
         log.info("2. 아이템 조회 완료: itemName={}, ruby={}, img={}", item.getItemName(), item.getRuby(), item.getImg());
 
-        List<UpdateLogDto> updateLogDtos = item.getUpdateLogs().stream()
-                .filter(log -> log.getUpdatedAt() != null)
-                .sorted(Comparator.comparing(UpdateLogEntity::getUpdatedAt).reversed())
-                .map(log -> UpdateLogDto.builder()
-                        .adminName(log.getAdmin().getName())
-                        .updatedAt(String.valueOf(log.getUpdatedAt()))
-                        .message(log.getMessage())
-                        .build())
-                .collect(Collectors.toList());
+        // 최근 수정 로그 첫 페이지만 포함 (이후는 /viewer/items/{itemId}/update-logs?cursor=)
+        CursorPageResponseDto<UpdateLogDto> updateLogPage = updateLogHistoryService.getItemUpdateLogs(
+                itemId, null, UpdateLogHistoryService.DEFAULT_PAGE_SIZE);
 
-        log.info("3. 업데이트 로그 조회 완료: 로그 수={}", updateLogDtos.size());
+        log.info("3. 업데이트 로그 조회 완료: 로그 수={}", updateLogPage.getContent().size());
 
         List<PackageSummaryDto> packageSummaries = item.getPackageItems().stream()
                 .map(PackageItemEntity::getPackageEntity)
@@ -192,7 +177,8 @@ public class ViewerService {
                 .ruby(item.getRuby())
                 .imgUrl(item.getImg())
                 .status(item.getStatus())
-                .updateLogs(updateLogDtos)
+                .updateLogs(updateLogPage.getContent())
+                .updateLogsNextCursor(updateLogPage.getNextCursor())
                 .packages(packageSummaries)
                 .build();
     }
@@ -216,7 +202,6 @@ public class ViewerService {
         List<PackageItemEntity> packageItems = pkg.getPackageItems();
 
         List<PackageItemAndStatusDto> itemDtos = new ArrayList<>();
-        double totalRuby = 0.0;
 
         for (PackageItemEntity pi : packageItems) {
             ItemEntity item = pi.getItem();
@@ -233,44 +218,31 @@ public class ViewerService {
                     .quantity(pi.getQuantity())
                     .status(item.getStatus())
                     .build());
-
-            // 상태가 ACTIVE인 구성품만 루비 합산
-            if (item.getStatus() == BaseEntity.Status.ACTIVE) {
-                totalRuby += item.getRuby() * pi.getQuantity();
-            }
         }
 
-        double totalCash = totalRuby * 7.5;
-
-        // 패키지에 대한 업데이트 로그
-        List<UpdateLogDto> updateLogs = pkg.getUpdateLogs().stream()
-                .filter(log -> log.getUpdatedAt() != null)
-                .sorted(Comparator.comparing(UpdateLogEntity::getUpdatedAt).reversed())
-                .map(log -> UpdateLogDto.builder()
-                        .adminName(log.getAdmin().getName())
-                        .updatedAt(String.valueOf(log.getUpdatedAt()))
-                        .message(log.getMessage())
-                        .build())
-                .collect(Collectors.toList());
+        // 패키지에 대한 업데이트 로그 첫 페이지 (이후는 /viewer/packages/{packageId}/update-logs?cursor=)
+        CursorPageResponseDto<UpdateLogDto> updateLogPage = updateLogHistoryService.getPackageUpdateLogs(
+                packageId, null, UpdateLogHistoryService.DEFAULT_PAGE_SIZE);
 
-        log.info("3. 패키지 구성품 개수={}, 업데이트 로그 개수={}", itemDtos.size(), updateLogs.size());
+        log.info("3. 패키지 구성품 개수={}, 업데이트 로그 개수={}", itemDtos.size(), updateLogPage.getContent().size());
 
         return PackageDetailResponseDto.builder()
                 .packageId(pkg.getPackageId())
                 .packageName(pkg.getPackageName())
                 .packagePrice(pkg.getPackagePrice())
-                .totalRuby(totalRuby)
-                .totalCash(totalCash)
+                .totalRuby(pkg.getTotalRuby())  // 쓰기 시점에 계산해 둔 값 (ACTIVE 구성품만)
+                .totalCash(pkg.getTotalCash())
                 .items(itemDtos)
-                .updateLogList(updateLogs)
+                .updateLogList(updateLogPage.getContent())
+                .updateLogNextCursor(updateLogPage.getNextCursor())
                 .status(pkg.getStatus())
                 .build();
     }
 
     // 로그아웃 처리
     public void logout(String email,HttpServletRequest  request, HttpServletResponse response) throws IOException{
-        // 이메일로 해당 관리자 계정 조회
-        AdminEntity admin = adminRepository.findByEmail(email)
+        // 이메일로 해당 관리자 계정 조회 (캐시 → DB)
+        adminIdentityCache.find(email)
                 .orElseThrow(() -> new AdminNotFoundException("해당 이메일의 관리자가 존재하지 않습니다."));
         // 활성 통큰 블랙리스트 처리
         tokenBlacklistService.blacklistAllActiveTokens(email);
@@ -292,7 +264,7 @@ public class ViewerService {
 
     // 관리자 이름과 권한 조회 - 이메일로
     public Map<String, String> getAdminInfo(String email) {
-        AdminEntity admin = adminRepository.findByEmail(email)
+        AdminIdentity admin = adminIdentityCache.find(email)
                 .orElseThrow(() -> new AdminNotFoundException("해당 이메일의 관리자가 존재하지 않습니다."));
 
         Map<String, String> adminInfo = new HashMap<>();
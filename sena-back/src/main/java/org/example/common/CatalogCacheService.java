@@ -0,0 +1,216 @@
+package org.example.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.admin.dto.ItemResponseDto;
+import org.example.common.dto.PackageListResponseDto;
+import org.example.redis.RedisCircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공개 카탈로그(/main/items, /main/packages) 캐시 (cache-aside, 2단계)
+ * - 1단계: 서버 메모리 - 직렬화/압축까지 끝난 CatalogSnapshot 을 보관, 변경이 없으면 DB/Redis 조회 없이 바로 반환
+ * - 2단계: Redis JSON (catalog:{이름}:{세대}) - 서버 재시작/다른 서버의 첫 조회도 DB 를 거치지 않음
+ * - EditorService 변경 트랜잭션이 커밋되면 catalog:generation 을 올리고 pub/sub(catalog:events)으로 모든 서버의 메모리 캐시를 무효화한다.
+ *   세대가 바뀌면 이전 세대 키는 읽지 않으므로, 무효화와 동시에 진행된 오래된 조회 결과가 다시 캐시되지 않는다.
+ * - pub/sub 유실에 대비해 메모리 캐시는 local-ttl-seconds 후 다시 확인한다.
+ * - Redis 장애(서킷 OPEN) 중에는 DB 에서 바로 만들고, 복구되면 밀린 무효화를 다시 전파한다.
+ */
+@Slf4j
+@Service
+public class CatalogCacheService implements MessageListener {
+
+    public static final String KEY_PREFIX = "catalog:";
+    public static final String GENERATION_KEY = "catalog:generation";
+    public static final String CHANNEL = "catalog:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final long localTtlMs;
+    private final Duration redisTtl;
+
+    // 무효화될 때마다 증가 - 메모리 캐시 항목은 저장 당시 버전과 같을 때만 유효
+    private final AtomicLong localVersion = new AtomicLong();
+
+    // Redis 장애로 전파하지 못한 무효화가 있는지 (복구 시 재전파)
+    private final AtomicBoolean pendingInvalidation = new AtomicBoolean();
+
+    private final CachedValue<List<ItemResponseDto>> items;
+    private final CachedValue<PackageListResponseDto> packages;
+
+    public CatalogCacheService(CommonService commonService,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               RedisCircuitBreaker circuitBreaker,
+                               ObjectMapper objectMapper,
+                               @Value("${catalog.cache.local-ttl-seconds:300}") long localTtlSeconds,
+                               @Value("${catalog.cache.redis-ttl-seconds:3600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.localTtlMs = Duration.ofSeconds(localTtlSeconds).toMillis();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.items = new CachedValue<>("items", new TypeReference<List<ItemResponseDto>>() {},
+                commonService::getItems);
+        this.packages = new CachedValue<>("packages", new TypeReference<PackageListResponseDto>() {},
+                commonService::getPackages);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        circuitBreaker.addRecoveryListener(this::retryPendingInvalidation);
+    }
+
+    // 활성화 아이템 목록 응답
+    public CatalogSnapshot getItems() {
+        return items.get();
+    }
+
+    // 활성화 패키지 목록 응답
+    public CatalogSnapshot getPackages() {
+        return packages.get();
+    }
+
+    // 변경 트랜잭션 커밋 후 무효화 (롤백되면 캐시 유지)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        localVersion.incrementAndGet();
+        publishInvalidation();
+    }
+
+    // 다른 서버의 무효화 메시지 (본문: 새 세대 번호)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localVersion.incrementAndGet();
+    }
+
+    private void publishInvalidation() {
+        circuitBreaker.execute(() -> {
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(generation));
+            pendingInvalidation.set(false);
+            return null;
+        }, () -> {
+            log.warn("[CatalogCacheService] Redis 장애 - 카탈로그 무효화 전파 보류");
+            pendingInvalidation.set(true);
+            return null;
+        });
+    }
+
+    private void retryPendingInvalidation() {
+        if (pendingInvalidation.get()) {
+            publishInvalidation();
+        }
+    }
+
+    private static final class Entry {
+        private final CatalogSnapshot value;
+        private final long version;
+        private final long expiresAt;
+
+        private Entry(CatalogSnapshot value, long version, long expiresAt) {
+            this.value = value;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // 캐시 대상 하나 (메모리 → Redis → DB 순으로 조회)
+    private final class CachedValue<T> {
+        private final String name;
+        private final TypeReference<T> type;
+        private final Supplier<T> loader;
+        private volatile Entry entry;
+
+        private CachedValue(String name, TypeReference<T> type, Supplier<T> loader) {
+            this.name = name;
+            this.type = type;
+            this.loader = loader;
+        }
+
+        CatalogSnapshot get() {
+            Entry current = entry;
+            if (isFresh(current)) {
+                return current.value;
+            }
+            // 같은 서버의 동시 조회는 하나만 Redis/DB 로 보냄
+            synchronized (this) {
+                current = entry;
+                if (isFresh(current)) {
+                    return current.value;
+                }
+                long version = localVersion.get();
+                CatalogSnapshot value = load();
+                // 조회 도중 무효화되었으면 메모리에 저장하지 않음
+                if (localVersion.get() == version) {
+                    entry = new Entry(value, version, System.currentTimeMillis() + localTtlMs);
+                }
+                return value;
+            }
+        }
+
+        private boolean isFresh(Entry e) {
+            return e != null && e.version == localVersion.get() && e.expiresAt > System.currentTimeMillis();
+        }
+
+        private CatalogSnapshot load() {
+            String generation = circuitBreaker.execute(() -> {
+                String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+                return value != null ? value : "0";
+            }, () -> null);
+            if (generation == null) {
+                // Redis 장애 - DB 에서 바로 생성
+                return build(loader.get());
+            }
+
+            String key = KEY_PREFIX + name + ":" + generation;
+            String json = circuitBreaker.execute(() -> redisTemplate.opsForValue().get(key), () -> null);
+            if (json != null) {
+                try {
+                    // Redis 의 JSON 을 그대로 응답 본문으로 사용 (역직렬화는 형식 확인용)
+                    objectMapper.readValue(json, type);
+                    return CatalogSnapshot.of(json.getBytes(StandardCharsets.UTF_8));
+                } catch (Exception e) {
+                    log.warn("[CatalogCacheService] 캐시 역직렬화 실패 - DB 에서 다시 생성: {}", key, e);
+                }
+            }
+
+            CatalogSnapshot value = build(loader.get());
+            String serialized = new String(value.getBody(), StandardCharsets.UTF_8);
+            circuitBreaker.execute(() -> {
+                redisTemplate.opsForValue().set(key, serialized, redisTtl);
+                return null;
+            }, () -> null);
+            return value;
+        }
+
+        private CatalogSnapshot build(T value) {
+            try {
+                return CatalogSnapshot.of(objectMapper.writeValueAsBytes(value));
+            } catch (Exception e) {
+                throw new IllegalStateException("카탈로그 직렬화 실패: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.common;
+
+/**
+ * 아이템/패키지(공개 카탈로그) 변경 이벤트
+ * - EditorService 의 변경 메소드가 발행하고, 트랜잭션 커밋 후 CatalogCacheService 가 캐시를 무효화한다.
+ */
+public class CatalogChangedEvent {
+}
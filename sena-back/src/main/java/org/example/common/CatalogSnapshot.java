@@ -0,0 +1,89 @@
+package org.example.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 카탈로그 응답 (불변)
+ * - 데이터가 바뀔 때만 한 번 만들고, 요청마다 같은 바이트를 그대로 내려준다.
+ * - ETag 는 JSON 본문의 SHA-256 - gzip 본문은 "-gzip" 을 붙인 별도 ETag 를 사용한다.
+ */
+public final class CatalogSnapshot {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String hash;
+
+    private CatalogSnapshot(byte[] body, byte[] gzipBody, String hash) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.hash = hash;
+    }
+
+    public static CatalogSnapshot of(byte[] json) {
+        return new CatalogSnapshot(json, gzip(json), sha256(json));
+    }
+
+    // 호출자는 배열을 수정하지 말 것 (복사 비용을 없애기 위해 그대로 반환)
+    public byte[] getBody() {
+        return body;
+    }
+
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+
+    public String getEtag() {
+        return "\"" + hash + "\"";
+    }
+
+    public String getGzipEtag() {
+        return "\"" + hash + GZIP_SUFFIX + "\"";
+    }
+
+    // If-None-Match 값 중 하나라도 이 스냅샷(인코딩 무관)과 같으면 true
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(getEtag()) || candidate.equals(getGzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
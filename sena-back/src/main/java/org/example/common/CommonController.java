@@ -2,13 +2,16 @@ package org.example.common;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.admin.dto.ItemResponseDto;
-import org.example.common.dto.PackageListResponseDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @Slf4j
@@ -17,21 +20,56 @@ import java.util.List;
 @RequestMapping("/main/")
 public class CommonController {
 
-    private final CommonService commonService;
+    private final CatalogCacheService catalogCacheService;
 
     // 아이템 전체 목록 반환 - 활성화 아이템만
     @GetMapping("/items")
-    public ResponseEntity<?> getItems() {
+    public ResponseEntity<byte[]> getItems(HttpServletRequest request) {
         log.info("아이템 목록 요청");
-        List<ItemResponseDto> itemList = commonService.getItems();
-        return ResponseEntity.ok(itemList);
+        return toResponse(catalogCacheService.getItems(), request);
     }
 
     // 패키지 전체 목록 반환 - 활성화 패키지만
     @GetMapping("/packages")
-    public ResponseEntity<?> getPackages() {
+    public ResponseEntity<byte[]> getPackages(HttpServletRequest request) {
         log.info("패키지 목록 요청");
-        PackageListResponseDto packageList = commonService.getPackages();
-        return ResponseEntity.ok(packageList);
+        return toResponse(catalogCacheService.getPackages(), request);
+    }
+
+    // 미리 직렬화된 본문을 그대로 응답 (ETag 가 같으면 304, gzip 을 받으면 압축본)
+    private ResponseEntity<byte[]> toResponse(CatalogSnapshot snapshot, HttpServletRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.noCache()); // 캐시하되 매번 ETag 로 재검증
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        // Last-Modified / If-Modified-Since 는 사용하지 않음 - 패키지 비활성화나 아이템 루비 수정은
+        // 수정 시각 최댓값을 올리지 않으므로 날짜 비교로는 변경을 놓침 (ETag 로만 재검증)
+        if (snapshot.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new ResponseEntity<>(snapshot.getGzipBody(), headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(snapshot.getBody(), headers, HttpStatus.OK);
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // gzip;q=0 은 거부 의미
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
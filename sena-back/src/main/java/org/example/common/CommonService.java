@@ -9,16 +9,15 @@ import org.example.common.dto.PackageListResponseDto;
 import org.example.entity.BaseEntity;
 import org.example.entity.ItemEntity;
 import org.example.entity.PackageEntity;
-import org.example.entity.UpdateLogEntity;
 import org.example.repository.ItemRepository;
 import org.example.repository.PackageRepository;
+import org.example.repository.UpdateLogRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,6 +27,7 @@ public class CommonService {
 
     private final ItemRepository itemRepository;
     private final PackageRepository packageRepository;
+    private final UpdateLogRepository updateLogRepository;
 
     // 아이템 전체 목록 반환 - 활성화 아이템만
     @Transactional(readOnly = true)
@@ -49,7 +49,8 @@ public class CommonService {
     public PackageListResponseDto getPackages() {
         log.info("1. 패키지 조회 시작");
 
-        List<PackageEntity> packageEntities = packageRepository.findAllByStatus(BaseEntity.Status.ACTIVE);
+        // 패키지/구성품/아이템 한 번에 조회 (패키지별 지연 로딩 없음)
+        List<PackageEntity> packageEntities = packageRepository.findAllWithItemsByStatus(BaseEntity.Status.ACTIVE);
         log.info("2. 패키지 개수: {}", packageEntities.size());
 
         List<PackageDto> packageDtos = packageEntities.stream()
@@ -73,17 +74,11 @@ public class CommonService {
                             })
                             .collect(Collectors.toList());
 
-                    double totalRuby = itemDtos.stream()
-                            .mapToDouble(i -> i.getRuby() * i.getQuantity())
-                            .sum();
-
-                    Double totalCash = totalRuby * 7.5;
-
                     return PackageDto.builder()
                             .packageId(pkg.getPackageId())
                             .packageName(pkg.getPackageName())
-                            .totalRuby(totalRuby)
-                            .totalCash(totalCash)
+                            .totalRuby(pkg.getTotalRuby())  // 쓰기 시점에 계산해 둔 값
+                            .totalCash(pkg.getTotalCash())
                             .packagePrice(pkg.getPackagePrice())
                             .items(itemDtos)
                             .build();
@@ -92,12 +87,8 @@ public class CommonService {
 
         log.info("5. 패키지 DTO 변환 완료");
 
-        LocalDateTime latestUpdated = packageEntities.stream()
-                .flatMap(pkg -> pkg.getUpdateLogs().stream())
-                .map(UpdateLogEntity::getUpdatedAt)
-                .filter(Objects::nonNull)
-                .max(LocalDateTime::compareTo)
-                .orElse(null);
+        // 수정 로그를 불러오지 않고 MAX(updated_at) 만 조회
+        LocalDateTime latestUpdated = updateLogRepository.findLatestPackageUpdatedAt(BaseEntity.Status.ACTIVE);
 
         String lastUpdatedAt = latestUpdated != null
                 ? latestUpdated.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
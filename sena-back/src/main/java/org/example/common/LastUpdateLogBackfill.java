@@ -0,0 +1,32 @@
+package org.example.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.repository.ItemRepository;
+import org.example.repository.PackageRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아이템/패키지 최근 수정 로그(last_update_log_id) 채우기
+ * - 컬럼 추가 전에 쌓인 데이터는 비어 있으므로 시작 시 update_log 에서 가장 최근 로그를 찾아 채운다.
+ * - 이후에는 EditorService 가 로그를 쓸 때마다 갱신하므로 비어 있는 행만 대상으로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastUpdateLogBackfill {
+
+    private final ItemRepository itemRepository;
+    private final PackageRepository packageRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int items = itemRepository.backfillLastUpdateLog();
+        int packages = packageRepository.backfillLastUpdateLog();
+        log.info("[LastUpdateLogBackfill] 최근 수정 로그 채우기 완료 - 아이템: {}, 패키지: {}", items, packages);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.common;
+
+import org.example.entity.BaseEntity;
+import org.example.entity.ItemEntity;
+import org.example.entity.PackageEntity;
+import org.example.entity.PackageItemEntity;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패키지 총 루비/총 현금가 계산 (PackageEntity.totalRuby / totalCash 에 저장)
+ * - 구성품과 아이템이 모두 ACTIVE 인 경우만 합산: 루비 × 수량
+ * - 패키지 생성/수정 시에는 전체 재계산, 아이템 변경 시에는 변경 전후 차이만 관련 패키지에 반영한다.
+ *   (차이는 PackageRepository.addToTotals 로 DB 에서 더함 - 엔티티 값을 읽어 덮어쓰면 동시 수정 시 갱신이 유실됨)
+ */
+public final class PackageTotals {
+
+    // 루비 1개당 현금가
+    public static final double CASH_PER_RUBY = 7.5;
+
+    private PackageTotals() {
+    }
+
+    // 구성품 하나가 패키지 총 루비에 더하는 값
+    public static double contribution(PackageItemEntity pi) {
+        ItemEntity item = pi.getItem();
+        if (item == null || item.getRuby() == null || pi.getQuantity() == null) {
+            return 0.0;
+        }
+        if (pi.getStatus() != BaseEntity.Status.ACTIVE || item.getStatus() != BaseEntity.Status.ACTIVE) {
+            return 0.0;
+        }
+        return item.getRuby() * pi.getQuantity();
+    }
+
+    public static double sum(List<PackageItemEntity> packageItems) {
+        return packageItems.stream().mapToDouble(PackageTotals::contribution).sum();
+    }
+
+    // 구성품 전체로 다시 계산
+    public static void recalculate(PackageEntity pkg) {
+        set(pkg, sum(pkg.getPackageItems()));
+    }
+
+    // 아이템 변경 전 각 구성품의 기여분 기록
+    public static Map<PackageItemEntity, Double> snapshot(List<PackageItemEntity> packageItems) {
+        Map<PackageItemEntity, Double> before = new IdentityHashMap<>();
+        for (PackageItemEntity pi : packageItems) {
+            before.put(pi, contribution(pi));
+        }
+        return before;
+    }
+
+    // 아이템 변경 후 기여분 차이를 패키지별로 합산 (패키지 ID → 총 루비 차이, 차이가 없는 패키지는 제외)
+    public static Map<Long, Double> deltas(Map<PackageItemEntity, Double> before) {
+        Map<Long, Double> deltas = new HashMap<>();
+        before.forEach((pi, previous) -> {
+            PackageEntity pkg = pi.getPackageEntity();
+            if (pkg != null) {
+                deltas.merge(pkg.getPackageId(), contribution(pi) - previous, Double::sum);
+            }
+        });
+        deltas.values().removeIf(delta -> delta == 0.0);
+        return deltas;
+    }
+
+    public static double cashOf(double totalRuby) {
+        return totalRuby * CASH_PER_RUBY;
+    }
+
+    private static void set(PackageEntity pkg, double totalRuby) {
+        pkg.setTotalRuby(totalRuby);
+        pkg.setTotalCash(cashOf(totalRuby));
+    }
+}
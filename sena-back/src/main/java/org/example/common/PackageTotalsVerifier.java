@@ -0,0 +1,74 @@
+package org.example.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.PackageEntity;
+import org.example.redis.ScheduledJobLock;
+import org.example.repository.PackageRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 패키지 총 루비/현금가 검증기
+ * - 저장된 합계를 구성품 기준으로 다시 계산해 비교하고, 다르면(또는 아직 없으면) 고친다.
+ * - 시작 시 한 번(기존 패키지 채우기)과 매일 새벽에 실행한다. 서버가 여러 대여도 Redis 잠금(catalog:totals:verify:lock)을 잡은 한 대만 실행한다.
+ * - 검증 도중 편집자가 같은 패키지를 수정했으면 그 값을 덮어쓰지 않고 다음 검증으로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PackageTotalsVerifier {
+
+    // 부동소수 누적 오차 허용 범위
+    private static final double TOLERANCE = 1e-6;
+    private static final String LOCK_KEY = "catalog:totals:verify:lock";
+
+    private final PackageRepository packageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledJobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${catalog.totals.verify-cron:0 40 3 * * *}")
+    public void verify() {
+        // 잠금을 잡은 상태에서 트랜잭션을 커밋까지 끝내야 다른 서버가 커밋 전 값으로 다시 검증하지 않음
+        jobLock.runExclusively(LOCK_KEY, Duration.ofMinutes(30),
+                () -> transactionTemplate.executeWithoutResult(status -> verifyTotals()));
+    }
+
+    private void verifyTotals() {
+        List<PackageEntity> packages = packageRepository.findAllWithItems();
+
+        int repaired = 0;
+        for (PackageEntity pkg : packages) {
+            double expected = PackageTotals.sum(pkg.getPackageItems());
+            Double stored = pkg.getTotalRuby();
+            if (stored != null && Math.abs(stored - expected) <= TOLERANCE
+                    && pkg.getTotalCash() != null && Math.abs(pkg.getTotalCash() - PackageTotals.cashOf(expected)) <= TOLERANCE) {
+                continue;
+            }
+
+            int updated = packageRepository.repairTotals(pkg.getPackageId(), stored, expected, PackageTotals.cashOf(expected));
+            if (updated > 0) {
+                repaired++;
+                if (stored != null) {
+                    log.warn("[PackageTotalsVerifier] 패키지 합계 불일치 수정 - packageId: {}, 저장값: {}, 계산값: {}",
+                            pkg.getPackageId(), stored, expected);
+                }
+            }
+        }
+
+        if (repaired > 0) {
+            // 공개 카탈로그 캐시도 커밋 후 갱신
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        }
+        log.info("[PackageTotalsVerifier] 패키지 합계 검증 완료 - 전체: {}, 수정: {}", packages.size(), repaired);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.exception.customException.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서 - (시각, id) 정렬 키
+ * - 마지막으로 내려준 행의 정렬 키를 URL-safe Base64 문자열로 만들어 클라이언트에 전달한다.
+ * - 다음 페이지는 OFFSET 없이 "(시각, id) < 커서" 조건으로 인덱스를 바로 탐색한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeekCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime time;
+    private final long id;
+
+    public String encode() {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 비어 있으면 첫 페이지 (null 반환)
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new InvalidCursorException("잘못된 커서 형식입니다.");
+            }
+            return new SeekCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.common.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private Long totalCount;    // includeTotal=true 일 때만 포함 (캐시된 값일 수 있음)
+}
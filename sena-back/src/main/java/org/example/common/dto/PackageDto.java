@@ -1,12 +1,14 @@
 package org.example.common.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.util.List;
 
 @Data
 @SuperBuilder
+@NoArgsConstructor
 public class PackageDto {
     private Long packageId;
     private String packageName;
@@ -1,10 +1,14 @@
 package org.example.common.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PackageItemDto {
     private Long itemId;
     private String itemName;
@@ -1,13 +1,17 @@
 package org.example.common.dto;
 
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PackageListResponseDto {
     private String lastUpdatedAt;
     private List<PackageDto> packages;
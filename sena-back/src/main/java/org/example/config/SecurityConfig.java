@@ -7,8 +7,8 @@ import org.example.filter.TrafficLoggingFilter;
 import org.example.jwt.JwtFilter;
 import org.example.jwt.JwtLoginFilter;
 import org.example.jwt.JwtUtil;
+import org.example.redis.LocalTokenEpochCache;
 import org.example.redis.RedisIpRateLimitService;
-import org.example.redis.RedisService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,7 +38,7 @@ public class SecurityConfig {
     private final JwtFilter jwtFilter;
     private final JwtUtil jwtUtil;
     private final AdminLoginService adminLoginService;
-    private final RedisService redisService;
+    private final LocalTokenEpochCache localTokenEpochCache;
     private final TrafficLoggingFilter trafficLoggingFilter;
     private final RedisIpRateLimitService redisIpRateLimitService;
     private final IpRateLimitingFilter ipRateLimitingFilter;
@@ -64,7 +64,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         JwtLoginFilter jwtLoginFilter = new JwtLoginFilter(
-                authenticationManager(http.getSharedObject(AuthenticationConfiguration.class)), jwtUtil, adminLoginService, redisService
+                authenticationManager(http.getSharedObject(AuthenticationConfiguration.class)), jwtUtil, adminLoginService, localTokenEpochCache
         );
         jwtLoginFilter.setFilterProcessesUrl("/api/auth/login");
 
@@ -83,9 +83,12 @@ public class SecurityConfig {
                 ).permitAll()
                 // "/analytics/**" 와 "/admin/traffic/**" 는 여기서 권한 체크로 변경
                 .antMatchers("/admin/traffic/top-uris").hasRole("ROOT")
+                .antMatchers("/admin/traffic/rollups/**").hasRole("ROOT")
                 .antMatchers("/admin/traffic/**").hasAnyRole("ROOT", "EDITOR", "VIEWER")
                 .antMatchers("/analytics/**").hasAnyRole("ROOT", "EDITOR", "VIEWER")
                 .antMatchers("/root/**").hasRole("ROOT")
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole("ROOT")
                 .antMatchers("/editor/**").hasAnyRole("ROOT", "EDITOR")
                 .antMatchers("/viewer/**").hasAnyRole("ROOT", "EDITOR", "VIEWER")
                 .anyRequest().authenticated()
@@ -29,6 +29,11 @@ public class ItemEntity extends BaseEntity {
     @Column(name = "img")
     private String img;
 
+    // 가장 최근 수정 로그 (목록 조회 시 로그 전체를 읽지 않기 위함 - EditorService 가 로그 작성 시 갱신)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_update_log_id")
+    private UpdateLogEntity lastUpdateLog;
+
     // 연관관계
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<PackageItemEntity> packageItems;
@@ -26,6 +26,18 @@ public class PackageEntity extends BaseEntity {
     @Column(name = "package_price", nullable = false)
     private Double packagePrice;    // 패키지 실제 현금가
 
+    // 활성 구성품 기준 합계 (쓰기 시점에 갱신, PackageTotalsVerifier 가 주기적으로 검증)
+    @Column(name = "total_ruby")
+    private Double totalRuby;
+
+    @Column(name = "total_cash")
+    private Double totalCash;
+
+    // 가장 최근 수정 로그
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_update_log_id")
+    private UpdateLogEntity lastUpdateLog;
+
     // 연관관계
     @Builder.Default
     @OneToMany(mappedBy = "packageEntity", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
@@ -7,7 +7,11 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "update_log")
+@Table(name = "update_log", indexes = {
+        // 아이템/패키지별 수정 이력 최신순 커서 조회용
+        @Index(name = "idx_update_log_item_updated_at", columnList = "item_id, updated_at"),
+        @Index(name = "idx_update_log_package_updated_at", columnList = "package_id, updated_at")
+})
 @Getter
 @Setter
 @Builder
@@ -85,6 +85,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(request, "PAGE_OUT_OF_RANGE", e.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException e, HttpServletRequest request) {
+        return buildErrorResponse(request, "INVALID_CURSOR", e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidRollupRangeException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRollupRange(InvalidRollupRangeException e, HttpServletRequest request) {
+        return buildErrorResponse(request, "INVALID_ROLLUP_RANGE", e.getMessage());
+    }
+
     @ExceptionHandler(AdminNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleAdminNotFound(AdminNotFoundException e, HttpServletRequest request) {
         return buildErrorResponse(request, "ADMIN_NOT_FOUND", e.getMessage());
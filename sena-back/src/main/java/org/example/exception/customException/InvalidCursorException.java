@@ -0,0 +1,7 @@
+package org.example.exception.customException;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.exception.customException;
+
+public class InvalidRollupRangeException extends RuntimeException {
+    public InvalidRollupRangeException(String message) {
+        super(message);
+    }
+}
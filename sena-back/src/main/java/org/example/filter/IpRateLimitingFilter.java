@@ -1,7 +1,11 @@
 package org.example.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.example.ratelimit.RateLimitPolicy;
+import org.example.ratelimit.RateLimitResult;
+import org.example.ratelimit.RateLimitService;
 import org.example.redis.BlockedIpService;
+import org.example.redis.LocalBlockedIpCache;
 import org.example.redis.RedisIpRateLimitService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -11,25 +15,16 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 public class IpRateLimitingFilter extends OncePerRequestFilter {
 
-    // Redis에 IP별 요청 수, 차단 여부 등을 저장/조회하는 서비스
-    private final RedisIpRateLimitService redisIpRateLimitService;
+    // 경로별 정책으로 요청 수 제한 판정 (Redis 스크립트 1회)
+    private final RateLimitService rateLimitService;
     private final BlockedIpService blockedIpService;
-
-    // 허용 요청 수 최대치 (1분 동안 최대 100회)
-    private static final int MAX_REQUESTS = 100;
-
-    // 요청 카운트 만료 시간 (1분)
-    private static final Duration DURATION = Duration.ofMinutes(1);
-
-    // IP 차단 지속 시간 (60분)
-    private static final Duration BLOCK_DURATION = Duration.ofMinutes(60);
+    private final LocalBlockedIpCache localBlockedIpCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,33 +33,34 @@ public class IpRateLimitingFilter extends OncePerRequestFilter {
         // 1. 클라이언트 IP 주소를 추출 (X-Forwarded-For 헤더 우선)
         String ip = getClientIp(request);
 
-        // 2. Redis에서 해당 IP가 차단된 상태인지 확인
-        if (redisIpRateLimitService.hasKey("blocked_ip:" + ip)) {
+        // 2. 로컬 차단 캐시에서 해당 IP가 차단된 상태인지 확인 (Redis 조회 없음, pub/sub 으로 서버 간 동기화)
+        if (localBlockedIpCache.isBlocked(ip)) {
             // 차단 중인 IP면 403 Forbidden 응답을 보내고 요청 처리 중단
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "Your IP has been temporarily blocked.");
             return;
         }
 
-        // 3. Redis에서 해당 IP의 1분 단위 요청 수 카운트를 증가시킴
-        Long count = redisIpRateLimitService.increment("req_count:" + ip, 1);
+        // 3. 요청 경로의 정책(application.yml rate-limit)으로 차단 확인 + 요청 수 집계 + 한도 초과 시 차단을 한 번에 처리
+        RateLimitResult result = rateLimitService.check(ip, request.getRequestURI());
+        RateLimitPolicy policy = result.getPolicy();
 
-        // 4. 만약 해당 키가 새로 생성된 경우 (count == 1),
-        //    요청 카운트 키의 만료시간(1분)을 설정해서 1분 후 자동 삭제되도록 함
-        if (count == 1) {
-            redisIpRateLimitService.expire("req_count:" + ip, DURATION);
+        // 4. 다른 서버에서 차단되었지만 로컬 캐시에 아직 반영되지 않은 경우
+        if (result.getVerdict() == RedisIpRateLimitService.Verdict.BLOCKED) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "Your IP has been temporarily blocked.");
+            return;
         }
 
-        // 5. 요청 횟수가 최대치를 넘으면 차단 처리
-        if (count != null && count > MAX_REQUESTS) {
-            // Redis에 차단 키를 저장하고 차단 지속시간(10분) 설정
-            redisIpRateLimitService.set("blocked_ip:" + ip, "1", BLOCK_DURATION);
+        // 5. 이번 요청으로 한도를 넘어 새로 차단된 경우 (동시 요청 중 한 요청만 해당)
+        if (result.getVerdict() == RedisIpRateLimitService.Verdict.NEWLY_BLOCKED) {
+            // 로컬 캐시 반영 및 다른 서버에 차단 전파
+            localBlockedIpCache.block(ip, policy.getBlockDuration());
 
-            // DB에 차단 기록 저장 (빌더 방식)
+            // 차단 기록 저장 요청 (비동기 일괄 저장, IP 당 차단 기간 중 1건)
             blockedIpService.blockIp(
                     ip,
                     LocalDateTime.now(),
-                    LocalDateTime.now().plus(BLOCK_DURATION),
-                    "Rate limit exceeded"
+                    LocalDateTime.now().plus(policy.getBlockDuration()),
+                    "Rate limit exceeded (" + policy.getName() + ")"
             );
 
             // 429 Too Many Requests 응답 전송, 요청 처리 중단
@@ -72,7 +68,13 @@ public class IpRateLimitingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 6. 요청 횟수가 제한 내에 있으면 필터 체인 계속 진행
+        // 6. 차단 없이 한도만 넘은 경우 (차단 시간이 0 인 정책) 이번 요청만 거부
+        if (result.getVerdict() == RedisIpRateLimitService.Verdict.LIMITED) {
+            response.sendError(429, "Too many requests.");
+            return;
+        }
+
+        // 7. 요청 횟수가 제한 내에 있으면 필터 체인 계속 진행
         filterChain.doFilter(request, response);
     }
 
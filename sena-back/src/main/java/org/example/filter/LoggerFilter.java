@@ -1,6 +1,7 @@
 package org.example.filter;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -17,6 +18,12 @@ import java.nio.charset.StandardCharsets;
 @Component  // 자동 등록되므로 FilterRegistrationBean 불필요
 public class LoggerFilter extends OncePerRequestFilter {
 
+    // 스트리밍 내보내기 응답은 본문을 메모리에 모으지 않도록 감싸지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().endsWith("/export");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -34,7 +41,11 @@ public class LoggerFilter extends OncePerRequestFilter {
         int status = res.getStatus();
 
         String reqBody = new String(req.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
-        String resBody = new String(res.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
+        // 압축된 응답(카탈로그 gzip 등)은 본문 대신 크기만 출력
+        String contentEncoding = res.getHeader(HttpHeaders.CONTENT_ENCODING);
+        String resBody = contentEncoding != null
+                ? "(" + contentEncoding + ", " + res.getContentSize() + " bytes)"
+                : new String(res.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
 
         log.info(
                 "\n=================  [REQUEST] =================\n" +
@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.traffic.QueryCountHolder;
 import org.example.traffic.TrafficLogEntity;
-import org.example.traffic.TrafficLogService;
+import org.example.traffic.TrafficLogWriter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,7 +24,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class TrafficLoggingFilter extends OncePerRequestFilter {
 
-    private final TrafficLogService trafficLogService;
+    private final TrafficLogWriter trafficLogWriter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -77,7 +77,8 @@ public class TrafficLoggingFilter extends OncePerRequestFilter {
                     .dbQueryCount(dbQueryCount)
                     .createdAt(LocalDateTime.now())
                     .build();
-            trafficLogService.save(logEntity);
+            // 요청 스레드에서는 큐 적재만 하고, 저장은 TrafficLogWriter 가 배치로 처리
+            trafficLogWriter.enqueue(logEntity);
         }
     }
 
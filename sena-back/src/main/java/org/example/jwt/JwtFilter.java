@@ -1,6 +1,7 @@
 package org.example.jwt;
 
 import lombok.RequiredArgsConstructor;
+import org.example.redis.LocalTokenEpochCache;
 import org.example.redis.RedisService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,6 +22,8 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final RedisService redisService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LocalTokenEpochCache localTokenEpochCache;
 
     // 매 요청마다 실행되는 필터 로직
     @Override
@@ -33,19 +36,37 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (token != null) {
-                if (!jwtUtil.validateToken(token)) {
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired JWT token");
-                    return;
+                // 검증된 토큰 캐시 확인 - 없을 때만 한 번 파싱
+                VerifiedToken verified = verifiedTokenCache.get(token);
+                if (verified == null) {
+                    verified = jwtUtil.verify(token);
+                    if (verified == null) {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired JWT token");
+                        return;
+                    }
+                    verifiedTokenCache.put(token, verified);
                 }
 
-                String jti = jwtUtil.getJti(token); // JTI 추출
-                if (redisService.isBlacklisted(jti)) {
+                // 토큰 버전이 관리자의 현재 버전보다 낮으면 폐기된 토큰 (로컬 캐시만 확인)
+                if (verified.getVersion() != null) {
+                    Long currentEpoch = localTokenEpochCache.currentEpoch(verified.getUsername());
+                    if (currentEpoch == null) {
+                        // 캐시에 없고 Redis 장애로 폐기 여부를 알 수 없음 - 통과시키지 않음 (Redis 복구 후 재시도)
+                        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Token status unavailable");
+                        return;
+                    }
+                    if (verified.getVersion() < currentEpoch) {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
+                        return;
+                    }
+                } else if (redisService.isBlacklisted(verified.getJti())) {
+                    // 버전 도입 전에 발급된 토큰은 기존 JTI 블랙리스트로 확인 (최대 토큰 유효 시간 이후에는 남지 않음)
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
                     return;
                 }
 
-                String username = jwtUtil.getUsername(token);
-                String role = jwtUtil.getRole(token);
+                String username = verified.getUsername();
+                String role = verified.getRole();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.admin.all.AdminLoginService;
-import org.example.redis.RedisService;
+import org.example.redis.LocalTokenEpochCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,10 +24,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String TOKEN_EPOCH_ATTRIBUTE = JwtLoginFilter.class.getName() + ".tokenEpoch";
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final AdminLoginService adminLoginService;
-    private final RedisService redisService;
+    private final LocalTokenEpochCache localTokenEpochCache;
 
 
     // 로그인 요청 시 실행되는 메서드
@@ -47,6 +49,12 @@ public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
             UsernamePasswordAuthenticationToken authRequest =
                     new UsernamePasswordAuthenticationToken(email, password);
 
+            // 토큰 버전은 관리자 정보(권한) 조회보다 먼저 읽음
+            // (그 사이 권한 변경이 커밋되고 버전이 올라가면 이 토큰은 이전 버전이 되어 거부됨)
+            if (email != null) {
+                request.setAttribute(TOKEN_EPOCH_ATTRIBUTE, localTokenEpochCache.loadEpoch(email));
+            }
+
             // 인증 시도 (UserDetailsService와 연동)
             return authenticationManager.authenticate(authRequest);
 
@@ -65,10 +73,10 @@ public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
         String email = authResult.getName(); // getName()이 이메일임
         String role = authResult.getAuthorities().iterator().next().getAuthority().replace("ROLE_", "");
 
-        TokenInfo tokenInfo = jwtUtil.createToken(email, role);
-
-        // ✅ Redis에 JTI 저장
-        redisService.storeActiveToken(tokenInfo.getJti(), email, tokenInfo.getExpirationMs());
+        // 현재 토큰 버전을 넣어 발급 (토큰별 Redis 저장 없음 - 폐기는 버전 증가로 처리)
+        Object epoch = request.getAttribute(TOKEN_EPOCH_ATTRIBUTE);
+        TokenInfo tokenInfo = jwtUtil.createToken(email, role,
+                epoch != null ? (Long) epoch : localTokenEpochCache.loadEpoch(email));
 
         try {
             adminLoginService.updateLastLogin(email);
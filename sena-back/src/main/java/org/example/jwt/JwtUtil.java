@@ -21,8 +21,8 @@ public class JwtUtil {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
     }
 
-    // 토큰 생성
-    public TokenInfo createToken(String email, String role) {
+    // 토큰 생성 - version: 발급 시점의 관리자 토큰 버전 (버전이 올라가면 이전 토큰은 모두 무효)
+    public TokenInfo createToken(String email, String role, long version) {
         Date now = new Date();
         long expirationMs = 6 * 60 * 60 * 1000;
         Date expiryDate = new Date(now.getTime() + expirationMs);
@@ -32,6 +32,7 @@ public class JwtUtil {
                 .subject(email)
                 .id(jti)
                 .claim("role", role)
+                .claim("ver", version)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -73,25 +74,34 @@ public class JwtUtil {
 
     // 전체 유효성 검사 (서명 + 만료)  >>> 로직 추가 예정
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    // 한 번의 파싱으로 서명/만료/필수 클레임을 검사하고 필요한 값을 함께 반환 (실패 시 null)
+    public VerifiedToken verify(String token) {
         try {
             Claims claims = extractClaims(token);
 
             // 만료 여부
             if (claims.getExpiration().before(new Date())) {
                 log.warn("JWT 만료됨");
-                return false;
+                return null;
             }
 
             // 필수 클레임 검사
-            if (claims.getSubject() == null || claims.get("role") == null || claims.getId() == null) {
+            String role = claims.get("role", String.class);
+            if (claims.getSubject() == null || role == null || claims.getId() == null) {
                 log.warn("JWT 클레임 누락");
-                return false;
+                return null;
             }
 
-            return true;
+            // ver 클레임이 없는 토큰은 버전 도입 전에 발급된 토큰 (JTI 블랙리스트로 확인)
+            Long version = claims.get("ver", Long.class);
+
+            return new VerifiedToken(claims.getId(), claims.getSubject(), role, version, claims.getExpiration().getTime());
         } catch (Exception e) {
             log.error("JWT 유효성 검사 실패", e);
-            return false;
+            return null;
         }
     }
 
@@ -1,33 +1,39 @@
 package org.example.jwt;
 
 import lombok.RequiredArgsConstructor;
+import org.example.redis.LocalRevokedTokenCache;
+import org.example.redis.LocalTokenEpochCache;
 import org.example.redis.RedisService;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
+    // 활성 토큰의 남은 시간을 알 수 없을 때 블랙리스트 유지 시간 (기본 1시간)
+    private static final long DEFAULT_BLACKLIST_MILLIS = 3600 * 1000L;
+
     private final RedisService redisService;
+    private final LocalRevokedTokenCache localRevokedTokenCache;
+    private final LocalTokenEpochCache localTokenEpochCache;
 
     public void blacklistAllActiveTokens(String email) {
-        Set<String> activeJtis = redisService.getUserActiveTokens(email);
-        if (activeJtis == null || activeJtis.isEmpty()) {
-            return;
-        }
-
-        for (String jti : activeJtis) {
-            Long expirationMillis = redisService.getExpirationMillis("jti:" + jti);
-            if (expirationMillis == null || expirationMillis <= 0) {
-                expirationMillis = 3600 * 1000L; // 기본 1시간
-            }
-
-            redisService.deleteActiveToken(jti);
-            redisService.blacklistToken(jti, expirationMillis);
-        }
-
-        redisService.deleteUserActiveTokens(email); // 최종 정리
+        blacklistAllActiveTokens(Collections.singleton(email));
+    }
+
+    // 여러 사용자의 모든 토큰 폐기 - 토큰 버전을 올리면 이전에 발급된 토큰은 모두 무효 (스크립트에서 다른 서버로 전파까지 수행)
+    public void blacklistAllActiveTokens(Collection<String> emails) {
+        localTokenEpochCache.bump(emails);
+
+        // 버전 도입 전에 발급된 토큰(activeTokens 집합에 남은 JTI)은 기존 방식으로 블랙리스트 처리
+        // 로그인 시 더 이상 activeTokens 를 기록하지 않으므로 최대 토큰 유효 시간(6시간) 이후에는 빈 집합만 남음
+        List<String> revoked = redisService.revokeAllActiveTokens(emails, DEFAULT_BLACKLIST_MILLIS);
+
+        // 이 서버의 로컬 폐기 필터에는 바로 반영 (pub/sub 수신을 기다리지 않음)
+        localRevokedTokenCache.markRevoked(revoked);
     }
 }
@@ -0,0 +1,45 @@
+package org.example.jwt;
+
+/**
+ * 서명/만료/필수 클레임 검증을 마친 토큰 정보
+ * - 한 번 파싱한 결과를 VerifiedTokenCache 에 보관해 같은 토큰을 다시 파싱하지 않는다.
+ */
+public class VerifiedToken {
+    private final String jti;
+    private final String username;
+    private final String role;
+    private final Long version;   // 토큰 버전 (버전 도입 전에 발급된 토큰은 null)
+    private final long expiresAt; // epoch ms
+
+    public VerifiedToken(String jti, String username, String role, Long version, long expiresAt) {
+        this.jti = jti;
+        this.username = username;
+        this.role = role;
+        this.version = version;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 JWT 로컬 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 해시 (메모리에 토큰 원문을 남기지 않음)
+ * - 항목은 토큰의 exp 시각에 정확히 만료된다. (조회 시 확인 + 주기적 정리)
+ * - max-size 를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 캐시하지 않는다. (매 요청 파싱으로 동작)
+ * - 블랙리스트 확인은 캐시와 별개로 매 요청 수행한다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 캐시된 검증 결과 반환 (없거나 만료되었으면 null)
+    public VerifiedToken get(String token) {
+        String key = hash(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (cache.size() >= maxSize) {
+            evictExpired();
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(hash(token), verified);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${jwt.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(verified -> verified.isExpired(now));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
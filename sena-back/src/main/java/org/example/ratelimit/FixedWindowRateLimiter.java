@@ -0,0 +1,28 @@
+package org.example.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.example.redis.RedisIpRateLimitService;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Component
+@RequiredArgsConstructor
+public class FixedWindowRateLimiter implements RateLimiter {
+
+    private final RedisIpRateLimitService redisIpRateLimitService;
+
+    @Override
+    public RateLimitAlgorithm getAlgorithm() {
+        return RateLimitAlgorithm.FIXED_WINDOW;
+    }
+
+    @Override
+    public Verdict tryAcquire(String ip, RateLimitPolicy policy) {
+        return redisIpRateLimitService.evaluate(
+                RedisIpRateLimitService.FIXED_WINDOW_SCRIPT,
+                Arrays.asList(RedisIpRateLimitService.blockedKey(ip), policy.counterKey(ip)),
+                policy.getLimit(), policy.getWindow().toMillis(), policy.getBlockDuration().toMillis());
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.ratelimit;
+
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Redis 장애 시 사용하는 서버별 메모리 요청 제한 (고정 윈도우 근사)
+ * - IP 해시로 나눈 stripe 마다 long 하나에 [윈도우 번호(상위 32bit) | 카운트(하위 32bit)] 를 저장하고 CAS 로 갱신 (락 없음)
+ * - 서로 다른 IP 가 같은 stripe 를 쓰면 함께 집계되므로 실제보다 엄격해질 수 있다. (stripe 수로 조절)
+ * - 서버마다 따로 집계하므로 전체 한도는 서버 수만큼 느슨해진다.
+ */
+@Component
+public class LocalRateLimiter {
+
+    private final int stripes;
+    private final Map<String, AtomicLongArray> countersByPolicy = new ConcurrentHashMap<>();
+
+    public LocalRateLimiter(@Value("${rate-limit.local.stripes:65536}") int stripes) {
+        // 비트 마스크로 인덱스를 구하기 위해 2의 거듭제곱으로 맞춤
+        this.stripes = Integer.highestOneBit(Math.max(2, stripes - 1)) << 1;
+    }
+
+    public Verdict tryAcquire(String ip, RateLimitPolicy policy) {
+        AtomicLongArray counters = countersByPolicy.computeIfAbsent(policy.getName(), k -> new AtomicLongArray(stripes));
+        int index = spread(ip.hashCode()) & (stripes - 1);
+        int window = (int) (System.currentTimeMillis() / policy.getWindow().toMillis());
+
+        long current;
+        long next;
+        int count;
+        do {
+            current = counters.get(index);
+            int storedWindow = (int) (current >>> 32);
+            count = storedWindow == window ? (int) current + 1 : 1;
+            next = ((long) window << 32) | (count & 0xFFFFFFFFL);
+        } while (!counters.compareAndSet(index, current, next));
+
+        if (count <= policy.getLimit()) {
+            return Verdict.ALLOWED;
+        }
+        if (policy.getBlockDuration().isZero()) {
+            return Verdict.LIMITED;
+        }
+        // 한도를 처음 넘은 요청 하나만 차단 처리
+        return count == policy.getLimit() + 1 ? Verdict.NEWLY_BLOCKED : Verdict.BLOCKED;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
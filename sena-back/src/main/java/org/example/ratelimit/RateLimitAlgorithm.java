@@ -0,0 +1,8 @@
+package org.example.ratelimit;
+
+public enum RateLimitAlgorithm {
+    FIXED_WINDOW,           // 고정 윈도우 카운터 (윈도우 경계에서 최대 2배 허용 가능)
+    SLIDING_WINDOW_LOG,     // 요청 시각 로그 (ZSET) - 정확하지만 요청 수만큼 메모리 사용
+    SLIDING_WINDOW_COUNTER, // 현재/이전 윈도우 카운터 가중합 - 근사치, 메모리 일정
+    TOKEN_BUCKET            // 토큰 버킷 (HASH) - 평균 속도 제한 + 버킷 크기만큼 순간 허용
+}
@@ -0,0 +1,25 @@
+package org.example.ratelimit;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor
+public class RateLimitPolicy {
+
+    public static final String DEFAULT_NAME = "default";
+
+    private String name = DEFAULT_NAME;
+    private String pattern;                                      // Ant 패턴 (ex. /main/**)
+    private RateLimitAlgorithm algorithm = RateLimitAlgorithm.FIXED_WINDOW;
+    private int limit = 100;                                     // 윈도우당 허용 요청 수 (토큰 버킷: 버킷 크기)
+    private Duration window = Duration.ofMinutes(1);             // 윈도우 길이 (토큰 버킷: 빈 버킷이 가득 차는 시간)
+    private Duration blockDuration = Duration.ofMinutes(60);     // 한도 초과 시 IP 차단 시간 (0 이면 차단 없이 429만 응답)
+
+    // 정책별 카운터 키 - 기본 정책은 기존 키(req_count:{ip})를 그대로 사용
+    public String counterKey(String ip) {
+        return DEFAULT_NAME.equals(name) ? "req_count:" + ip : "req_count:" + ip + ":" + name;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 정책 (application.yml 의 rate-limit)
+ * - policies 는 위에서부터 순서대로 비교해서 처음 일치하는 정책을 사용한다.
+ * - 일치하는 정책이 없으면 default-policy 를 사용한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private RateLimitPolicy defaultPolicy = new RateLimitPolicy();
+    private List<RateLimitPolicy> policies = new ArrayList<>();
+}
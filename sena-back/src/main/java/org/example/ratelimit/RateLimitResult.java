@@ -0,0 +1,12 @@
+package org.example.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+
+@Getter
+@RequiredArgsConstructor
+public class RateLimitResult {
+    private final Verdict verdict;
+    private final RateLimitPolicy policy;
+}
@@ -0,0 +1,61 @@
+package org.example.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.redis.RedisCircuitBreaker;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 경로에 맞는 정책을 찾아 해당 알고리즘의 RateLimiter 로 판정
+ * - Redis 가 느리거나 장애일 때(서킷 OPEN)는 LocalRateLimiter 로 서버별 판정 (rate.limiter.mode 게이지: 0 Redis, 1 로컬)
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    private final RateLimitProperties properties;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final LocalRateLimiter localRateLimiter;
+    private final Map<RateLimitAlgorithm, RateLimiter> limiters = new EnumMap<>(RateLimitAlgorithm.class);
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitService(RateLimitProperties properties,
+                            List<RateLimiter> rateLimiters,
+                            RedisCircuitBreaker circuitBreaker,
+                            LocalRateLimiter localRateLimiter,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreaker = circuitBreaker;
+        this.localRateLimiter = localRateLimiter;
+        Gauge.builder("rate.limiter.mode", circuitBreaker, cb -> cb.isClosed() ? 0 : 1)
+                .description("Active rate limiter (0: Redis, 1: local fallback)")
+                .register(meterRegistry);
+        rateLimiters.forEach(limiter -> limiters.put(limiter.getAlgorithm(), limiter));
+        log.info("[RateLimit] 기본 정책: {}, 경로별 정책: {}개", properties.getDefaultPolicy(), properties.getPolicies().size());
+    }
+
+    public RateLimitResult check(String ip, String uri) {
+        RateLimitPolicy policy = resolvePolicy(uri);
+        RateLimiter limiter = limiters.get(policy.getAlgorithm());
+        Verdict verdict = circuitBreaker.execute(
+                () -> limiter.tryAcquire(ip, policy),
+                () -> localRateLimiter.tryAcquire(ip, policy));
+        return new RateLimitResult(verdict, policy);
+    }
+
+    public RateLimitPolicy resolvePolicy(String uri) {
+        for (RateLimitPolicy policy : properties.getPolicies()) {
+            if (policy.getPattern() != null && pathMatcher.match(policy.getPattern(), uri)) {
+                return policy;
+            }
+        }
+        return properties.getDefaultPolicy();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.ratelimit;
+
+import org.example.redis.RedisIpRateLimitService.Verdict;
+
+public interface RateLimiter {
+
+    RateLimitAlgorithm getAlgorithm();
+
+    // 요청 1건에 대한 판정 (Redis 스크립트 1회 실행)
+    Verdict tryAcquire(String ip, RateLimitPolicy policy);
+}
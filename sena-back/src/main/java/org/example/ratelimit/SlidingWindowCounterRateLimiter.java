@@ -0,0 +1,55 @@
+package org.example.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.example.redis.RedisIpRateLimitService;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 슬라이딩 윈도우 카운터 - 현재 윈도우 카운트 + 이전 윈도우 카운트 × (이전 윈도우가 겹치는 비율) 로 근사
+ * 고정 윈도우처럼 IP 당 키 2개만 사용하면서 경계에서의 순간 2배 허용을 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlidingWindowCounterRateLimiter implements RateLimiter {
+
+    // KEYS[2]: 현재 윈도우 카운터, KEYS[3]: 이전 윈도우 카운터, ARGV[4]: 현재 윈도우 경과 시간(ms)
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(
+            RedisIpRateLimitService.BLOCKED_CHECK +
+                    "local window = tonumber(ARGV[2]) " +
+                    "local elapsed = tonumber(ARGV[4]) " +
+                    "local prev = tonumber(redis.call('GET', KEYS[3]) or '0') " +
+                    "local curr = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+                    "if prev * (window - elapsed) / window + curr >= tonumber(ARGV[1]) then " +
+                    RedisIpRateLimitService.OVER_LIMIT +
+                    "end " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], window * 2) " +
+                    "return 0",
+            Long.class);
+
+    private final RedisIpRateLimitService redisIpRateLimitService;
+
+    @Override
+    public RateLimitAlgorithm getAlgorithm() {
+        return RateLimitAlgorithm.SLIDING_WINDOW_COUNTER;
+    }
+
+    @Override
+    public Verdict tryAcquire(String ip, RateLimitPolicy policy) {
+        long now = System.currentTimeMillis();
+        long windowMs = policy.getWindow().toMillis();
+        long windowIndex = now / windowMs;
+        String counterKey = policy.counterKey(ip);
+        return redisIpRateLimitService.evaluate(
+                SCRIPT,
+                Arrays.asList(RedisIpRateLimitService.blockedKey(ip),
+                        counterKey + ":" + windowIndex,
+                        counterKey + ":" + (windowIndex - 1)),
+                policy.getLimit(), windowMs, policy.getBlockDuration().toMillis(), now % windowMs);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.example.redis.RedisIpRateLimitService;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 슬라이딩 윈도우 로그 - 최근 window 동안의 요청 시각을 ZSET 에 보관하고 개수로 판정
+ * 윈도우 경계에서의 순간 2배 허용이 없지만, IP 당 limit 개까지 항목을 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlidingWindowLogRateLimiter implements RateLimiter {
+
+    // KEYS[2]: ZSET, ARGV[4]: 현재 시각(ms), ARGV[5]: 요청 식별값 (같은 ms 의 요청 구분)
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(
+            RedisIpRateLimitService.BLOCKED_CHECK +
+                    "local window = tonumber(ARGV[2]) " +
+                    "local now = tonumber(ARGV[4]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - window) " +
+                    "if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[1]) then " +
+                    RedisIpRateLimitService.OVER_LIMIT +
+                    "end " +
+                    "redis.call('ZADD', KEYS[2], now, ARGV[5]) " +
+                    "redis.call('PEXPIRE', KEYS[2], window) " +
+                    "return 0",
+            Long.class);
+
+    private final RedisIpRateLimitService redisIpRateLimitService;
+
+    @Override
+    public RateLimitAlgorithm getAlgorithm() {
+        return RateLimitAlgorithm.SLIDING_WINDOW_LOG;
+    }
+
+    @Override
+    public Verdict tryAcquire(String ip, RateLimitPolicy policy) {
+        long now = System.currentTimeMillis();
+        String member = now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return redisIpRateLimitService.evaluate(
+                SCRIPT,
+                Arrays.asList(RedisIpRateLimitService.blockedKey(ip), policy.counterKey(ip)),
+                policy.getLimit(), policy.getWindow().toMillis(), policy.getBlockDuration().toMillis(), now, member);
+    }
+}
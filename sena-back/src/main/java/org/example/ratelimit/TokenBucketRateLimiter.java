@@ -0,0 +1,56 @@
+package org.example.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.example.redis.RedisIpRateLimitService;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 버킷 - limit 크기의 버킷이 window 동안 가득 차는 속도로 채워지고, 요청마다 토큰 1개 사용
+ * 평균 속도는 limit / window 로 제한하면서 버킷 크기만큼의 순간 요청은 허용한다. (HASH: tokens, ts)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    // KEYS[2]: 버킷 HASH, ARGV[4]: 현재 시각(ms)
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>(
+            RedisIpRateLimitService.BLOCKED_CHECK +
+                    "local capacity = tonumber(ARGV[1]) " +
+                    "local window = tonumber(ARGV[2]) " +
+                    "local now = tonumber(ARGV[4]) " +
+                    "local state = redis.call('HMGET', KEYS[2], 'tokens', 'ts') " +
+                    "local tokens = tonumber(state[1]) " +
+                    "local ts = tonumber(state[2]) " +
+                    "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / window) " +
+                    "if tokens < 1 then " +
+                    "  redis.call('HSET', KEYS[2], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+                    "  redis.call('PEXPIRE', KEYS[2], window) " +
+                    RedisIpRateLimitService.OVER_LIMIT +
+                    "end " +
+                    "redis.call('HSET', KEYS[2], 'tokens', tostring(tokens - 1), 'ts', tostring(now)) " +
+                    "redis.call('PEXPIRE', KEYS[2], window) " +
+                    "return 0",
+            Long.class);
+
+    private final RedisIpRateLimitService redisIpRateLimitService;
+
+    @Override
+    public RateLimitAlgorithm getAlgorithm() {
+        return RateLimitAlgorithm.TOKEN_BUCKET;
+    }
+
+    @Override
+    public Verdict tryAcquire(String ip, RateLimitPolicy policy) {
+        return redisIpRateLimitService.evaluate(
+                SCRIPT,
+                Arrays.asList(RedisIpRateLimitService.blockedKey(ip), policy.counterKey(ip)),
+                policy.getLimit(), policy.getWindow().toMillis(), policy.getBlockDuration().toMillis(),
+                System.currentTimeMillis());
+    }
+}
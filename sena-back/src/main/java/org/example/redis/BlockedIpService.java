@@ -1,19 +1,90 @@
 package org.example.redis;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.entity.BlockedIpEntity;
 import org.example.repository.BlockedIpRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+/**
+ * IP 차단 기록 저장 (비동기 + 중복 제거)
+ * - 요청 스레드는 차단 이벤트를 메모리에 올려두기만 하고 바로 반환한다.
+ * - 같은 IP 는 차단 기간(unblockAt) 동안 한 번만 기록한다. (같은 공격자의 동시 요청이 여러 건 기록되지 않도록)
+ * - flush-interval-ms 마다 모아둔 기록을 한 번에 저장하며, 다른 서버가 이미 기록한 IP 는 저장 직전에 제외한다.
+ *   (IDENTITY 키라 JPA saveAll 은 행마다 INSERT 하므로 JDBC 배치로 저장 - rewriteBatchedStatements 로 다중 행 INSERT)
+ * - 저장에 실패한 기록은 대기열에 다시 넣어 다음 주기에 재시도한다.
+ * - 차단 해제 시 중복 제거 정보는 차단 IP 채널(blocked_ip:events)의 해제 메시지로 모든 서버에서 지운다.
+ *   (전파가 유실되면 그 서버는 이전 차단의 unblockAt 까지 같은 IP 를 다시 기록하지 않음)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class BlockedIpService {
+public class BlockedIpService implements MessageListener {
+
+    private static final String UNBLOCK_PREFIX = LocalBlockedIpCache.UNBLOCK + LocalBlockedIpCache.DELIMITER;
+    private static final String INSERT_SQL =
+            "INSERT INTO blocked_ip (ip, blocked_at, unblock_at, reason) VALUES (?, ?, ?, ?)";
 
     private final BlockedIpRepository blockedIpRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int maxPending;
+
+    // 저장 대기 중인 차단 기록 (IP 당 1건)
+    private final Map<String, BlockedIpEntity> pending = new ConcurrentHashMap<>();
+
+    // 이미 기록한 IP → 차단 해제 시각 (이 시각 전까지는 다시 기록하지 않음)
+    private final Map<String, LocalDateTime> recorded = new ConcurrentHashMap<>();
+
+    // 중복/대기열 초과로 저장하지 않은 차단 이벤트 수 (모니터링용)
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public BlockedIpService(BlockedIpRepository blockedIpRepository,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${blocked-ip.writer.max-pending:10000}") int maxPending) {
+        this.blockedIpRepository = blockedIpRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.listenerContainer = listenerContainer;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(LocalBlockedIpCache.CHANNEL));
+    }
 
     public void blockIp(String ip, LocalDateTime blockedAt, LocalDateTime unblockAt, String reason) {
+        LocalDateTime recordedUntil = recorded.get(ip);
+        if (recordedUntil != null && recordedUntil.isAfter(blockedAt)) {
+            coalescedCount.incrementAndGet();
+            return;
+        }
+        if (pending.size() >= maxPending) {
+            log.warn("[BlockedIpService] 저장 대기열 초과 - 차단 기록 생략: {}", ip);
+            coalescedCount.incrementAndGet();
+            return;
+        }
+
         BlockedIpEntity entity = BlockedIpEntity.builder()
                 .ip(ip)
                 .blockedAt(blockedAt)
@@ -21,7 +92,105 @@ public class BlockedIpService {
                 .reason(reason)
                 .build();
 
-        blockedIpRepository.save(entity);
+        if (pending.putIfAbsent(ip, entity) != null) {
+            coalescedCount.incrementAndGet();
+        }
+    }
+
+    // 차단 해제 시 다음 차단이 다시 기록되도록 중복 제거 정보 삭제
+    // 다른 서버는 LocalBlockedIpCache.unblock 이 보내는 해제 메시지(UNBLOCK|ip)를 받아 같은 처리를 함
+    public void forget(String ip) {
+        recorded.remove(ip);
+        pending.remove(ip);
     }
 
+    // 차단 IP 채널 메시지 중 해제(UNBLOCK|ip)만 처리 (차단 메시지는 LocalBlockedIpCache 담당)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(UNBLOCK_PREFIX)) {
+            forget(body.substring(UNBLOCK_PREFIX.length()));
+        }
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${blocked-ip.writer.flush-interval-ms:1000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        recorded.values().removeIf(unblockAt -> !unblockAt.isAfter(now));
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<BlockedIpEntity> batch = new ArrayList<>(pending.size());
+        for (String ip : new ArrayList<>(pending.keySet())) {
+            BlockedIpEntity entity = pending.remove(ip);
+            if (entity != null) {
+                batch.add(entity);
+            }
+        }
+
+        Set<String> alreadyBlocked;
+        try {
+            // 다른 서버에서 이미 기록한 활성 차단은 제외 (IN 조회 1회)
+            alreadyBlocked = new HashSet<>(blockedIpRepository.findActivelyBlockedIps(
+                    batch.stream().map(BlockedIpEntity::getIp).collect(Collectors.toList()), now));
+            batch.removeIf(entity -> alreadyBlocked.contains(entity.getIp()));
+
+            insertAll(batch);
+        } catch (Exception e) {
+            requeue(batch, e);
+            return;
+        }
+        batch.forEach(entity -> recorded.put(entity.getIp(), entity.getUnblockAt()));
+
+        log.info("[BlockedIpService] 차단 기록 저장 - {}건 (중복 제외: {}건)", batch.size(), alreadyBlocked.size());
+    }
+
+    // 배치 전체를 한 트랜잭션으로 저장 (일부만 저장된 채 재시도되어 중복 기록되지 않도록)
+    private void insertAll(List<BlockedIpEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (BlockedIpEntity entity : batch) {
+            args.add(new Object[]{
+                    entity.getIp(), Timestamp.valueOf(entity.getBlockedAt()), Timestamp.valueOf(entity.getUnblockAt()), entity.getReason()
+            });
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+    }
+
+    // 저장 실패한 기록을 대기열에 되돌림 - 그 사이 같은 IP 로 새로 들어온 기록이 있으면 그쪽을 유지
+    private void requeue(List<BlockedIpEntity> batch, Exception cause) {
+        int dropped = 0;
+        for (BlockedIpEntity entity : batch) {
+            if (pending.size() >= maxPending) {
+                dropped++;
+                continue;
+            }
+            pending.putIfAbsent(entity.getIp(), entity);
+        }
+        if (dropped > 0) {
+            coalescedCount.addAndGet(dropped);
+        }
+        log.error("[BlockedIpService] 차단 기록 저장 실패 - {}건 재시도 예정, {}건 유실 (대기열 초과)",
+                batch.size() - dropped, dropped, cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[BlockedIpService] 종료 시 차단 기록 저장 실패", e);
+        }
+        if (!pending.isEmpty()) {
+            log.error("[BlockedIpService] 종료 시 저장하지 못한 차단 기록 {}건 유실", pending.size());
+        }
+    }
 }
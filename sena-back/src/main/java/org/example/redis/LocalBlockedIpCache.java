@@ -0,0 +1,212 @@
+package org.example.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 차단 IP 로컬 캐시 (Redis 앞단 near-cache)
+ * - 차단된 IP 는 Redis 조회 없이 메모리에서 바로 거부한다.
+ * - 차단/해제는 Redis pub/sub(blocked_ip:events)으로 모든 서버에 전파한다.
+ * - pub/sub 은 유실될 수 있으므로 시작 시와 주기적으로 blocked_ip:* 키를 SCAN 해서 다시 맞춘다.
+ * - Redis 장애(서킷 OPEN) 중 차단된 IP 는 로컬에만 기록해 두었다가 복구 시 Redis 에 반영하고 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalBlockedIpCache implements MessageListener {
+
+    public static final String BLOCKED_IP_PREFIX = "blocked_ip:";
+    public static final String CHANNEL = "blocked_ip:events";
+
+    // BlockedIpService 도 같은 채널의 해제 메시지를 구독함
+    static final String BLOCK = "BLOCK";
+    static final String UNBLOCK = "UNBLOCK";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    // IP → 차단 만료 시각 (epoch ms)
+    private final Map<String, Long> blocked = new ConcurrentHashMap<>();
+
+    // Redis 장애 중 로컬에서만 차단된 IP → 만료 시각 (복구 시 Redis 에 반영)
+    private final Map<String, Long> localOnly = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        circuitBreaker.addRecoveryListener(this::reconcile);
+    }
+
+    // 로컬 메모리만 확인 (네트워크 I/O 없음)
+    public boolean isBlocked(String ip) {
+        Long expiresAt = blocked.get(ip);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            blocked.remove(ip, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    // 로컬 반영 후 다른 서버에 차단 전파 (Redis 장애 중이면 로컬에만 기록)
+    public void block(String ip, Duration duration) {
+        long expiresAt = System.currentTimeMillis() + duration.toMillis();
+        blocked.put(ip, expiresAt);
+        circuitBreaker.execute(
+                () -> redisTemplate.convertAndSend(CHANNEL, BLOCK + DELIMITER + ip + DELIMITER + duration.toMillis()),
+                () -> localOnly.put(ip, expiresAt));
+    }
+
+    // 로컬 반영 후 다른 서버에 해제 전파
+    public void unblock(String ip) {
+        blocked.remove(ip);
+        localOnly.remove(ip);
+        publish(UNBLOCK + DELIMITER + ip);
+    }
+
+    public int size() {
+        return blocked.size();
+    }
+
+    // 메시지 형식: BLOCK|ip|남은 차단 시간(ms) / UNBLOCK|ip
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|");
+        try {
+            if (BLOCK.equals(parts[0]) && parts.length == 3) {
+                blocked.put(parts[1], System.currentTimeMillis() + Long.parseLong(parts[2]));
+            } else if (UNBLOCK.equals(parts[0]) && parts.length == 2) {
+                blocked.remove(parts[1]);
+            } else {
+                log.warn("[LocalBlockedIpCache] 알 수 없는 메시지: {}", body);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[LocalBlockedIpCache] 잘못된 메시지: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        resync();
+    }
+
+    // Redis 의 차단 키 전체로 로컬 캐시를 다시 맞춤 (유실된 메시지 보정 + 만료 항목 정리)
+    @Scheduled(fixedDelayString = "${rate-limit.blocklist.resync-interval-ms:30000}",
+            initialDelayString = "${rate-limit.blocklist.resync-interval-ms:30000}")
+    public void resync() {
+        // 장애 중에는 로컬 캐시를 그대로 유지
+        if (!circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            List<String> keys = scanBlockedKeys();
+            Map<String, Long> latest = new HashMap<>();
+
+            if (!keys.isEmpty()) {
+                // 키별 남은 TTL 을 파이프라인으로 한 번에 조회
+                List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (String key : keys) {
+                        connection.pTtl(key.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                });
+
+                long now = System.currentTimeMillis();
+                for (int i = 0; i < keys.size(); i++) {
+                    Long ttl = (Long) ttls.get(i);
+                    if (ttl == null || ttl == -2) {
+                        continue; // 그 사이 만료/삭제됨
+                    }
+                    // TTL 이 없는 키(-1)는 다음 동기화 때까지 차단 유지
+                    String ip = keys.get(i).substring(BLOCKED_IP_PREFIX.length());
+                    latest.put(ip, ttl == -1 ? Long.MAX_VALUE : now + ttl);
+                }
+            }
+
+            // 아직 Redis 에 반영되지 않은 로컬 차단은 유지
+            long now = System.currentTimeMillis();
+            localOnly.forEach((ip, expiresAt) -> {
+                if (expiresAt > now) {
+                    latest.merge(ip, expiresAt, Math::max);
+                }
+            });
+
+            blocked.keySet().retainAll(latest.keySet());
+            blocked.putAll(latest);
+            log.debug("[LocalBlockedIpCache] 동기화 완료 - 차단 IP {}개", latest.size());
+        } catch (Exception e) {
+            // Redis 장애 시 기존 로컬 캐시 유지
+            log.warn("[LocalBlockedIpCache] 동기화 실패 - 기존 캐시 유지", e);
+        }
+    }
+
+    // Redis 복구 시 장애 중 로컬에서만 차단한 IP 를 Redis 에 기록하고 다른 서버에 전파
+    private void reconcile() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : new HashMap<>(localOnly).entrySet()) {
+            String ip = entry.getKey();
+            long remaining = entry.getValue() - now;
+            try {
+                if (remaining > 0) {
+                    redisTemplate.opsForValue().setIfAbsent(BLOCKED_IP_PREFIX + ip, "1", Duration.ofMillis(remaining));
+                    redisTemplate.convertAndSend(CHANNEL, BLOCK + DELIMITER + ip + DELIMITER + remaining);
+                }
+                localOnly.remove(ip, entry.getValue());
+            } catch (Exception e) {
+                // 다시 장애가 나면 남은 항목은 다음 복구 때 처리
+                log.warn("[LocalBlockedIpCache] 장애 중 차단 IP 재동기화 실패 - 남은 {}건", localOnly.size(), e);
+                return;
+            }
+        }
+        log.info("[LocalBlockedIpCache] 장애 중 차단 IP 재동기화 완료");
+    }
+
+    private List<String> scanBlockedKeys() {
+        List<String> keys = new ArrayList<>();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(BLOCKED_IP_PREFIX + "*").count(1000).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        });
+        return keys;
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 서버는 다음 동기화 때 반영
+            log.warn("[LocalBlockedIpCache] 차단 정보 전파 실패: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기(블랙리스트)된 JTI 로컬 Bloom 필터
+ * - 필터에 없는 JTI 는 폐기되지 않은 것이 확실하므로 Redis 를 조회하지 않는다. (대부분의 요청)
+ * - 필터에 있으면(오탐 가능) Redis 의 jti:{jti}:blacklist 키로 최종 확인한다.
+ * - 폐기는 Redis pub/sub(jti:revoked:events)으로 모든 서버의 필터에 전파한다.
+ * - Bloom 필터는 삭제가 안 되므로 시작 시와 주기적으로 블랙리스트 키를 SCAN 해서 새로 만든다. (만료된 JTI 정리 + 유실된 메시지 보정)
+ * - 첫 재구성 전에는 필터를 신뢰할 수 없으므로 모든 JTI 를 Redis 로 확인한다.
+ */
+@Slf4j
+@Component
+public class LocalRevokedTokenCache implements MessageListener {
+
+    public static final String BLACKLIST_KEY_PATTERN = "jti:*:blacklist";
+    public static final String CHANNEL = "jti:revoked:events";
+
+    private static final String DELIMITER = ",";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+
+    // 재구성(SCAN) 도중 추가된 JTI - 새 필터로 교체한 뒤 다시 반영
+    private volatile boolean rebuilding;
+    private final Set<String> addedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public LocalRevokedTokenCache(RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  RedisCircuitBreaker circuitBreaker,
+                                  @Value("${jwt.revoked-filter.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${jwt.revoked-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.circuitBreaker = circuitBreaker;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        // 장애 중 유실된 전파 보정
+        circuitBreaker.addRecoveryListener(this::rebuild);
+    }
+
+    // 로컬 메모리만 확인 (네트워크 I/O 없음) - false 면 폐기되지 않은 토큰
+    public boolean mightBeRevoked(String jti) {
+        return !ready || filter.mightContain(jti);
+    }
+
+    // 첫 재구성이 끝나 필터 결과를 신뢰할 수 있는지
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 로컬 필터에만 반영 (다른 서버로의 전파는 RedisService 의 일괄 폐기 스크립트가 같은 왕복에서 수행)
+    public void markRevoked(Collection<String> jtis) {
+        jtis.forEach(this::addLocal);
+    }
+
+    // 메시지 형식: jti,jti,...
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String jti : body.split(DELIMITER)) {
+            if (!jti.isEmpty()) {
+                addLocal(jti);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // Redis 의 블랙리스트 키 전체로 필터를 새로 만듦
+    @Scheduled(fixedDelayString = "${jwt.revoked-filter.rebuild-interval-ms:600000}",
+            initialDelayString = "${jwt.revoked-filter.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        // 장애 중에는 기존 필터 유지 (복구 시 다시 실행)
+        if (!circuitBreaker.isClosed()) {
+            return;
+        }
+        rebuilding = true;
+        try {
+            List<String> jtis = scanRevokedJtis();
+
+            // 폐기 토큰이 예상보다 많으면 오탐률이 유지되도록 크기를 늘림
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, jtis.size() * 2), falsePositiveRate);
+            jtis.forEach(rebuilt::put);
+
+            filter = rebuilt;
+            addedDuringRebuild.forEach(rebuilt::put);
+            ready = true;
+            log.debug("[LocalRevokedTokenCache] 재구성 완료 - 폐기 토큰 {}개", jtis.size());
+        } catch (Exception e) {
+            // Redis 장애 시 기존 필터 유지
+            log.warn("[LocalRevokedTokenCache] 재구성 실패 - 기존 필터 유지", e);
+        } finally {
+            rebuilding = false;
+            addedDuringRebuild.clear();
+        }
+    }
+
+    private void addLocal(String jti) {
+        // 순서 중요: 재구성 중 기록을 먼저 남겨야 교체 직전 필터에만 들어가고 사라지는 일이 없음
+        if (rebuilding) {
+            addedDuringRebuild.add(jti);
+        }
+        filter.put(jti);
+    }
+
+    private List<String> scanRevokedJtis() {
+        List<String> jtis = new ArrayList<>();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PATTERN).count(1000).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    // jti:{jti}:blacklist
+                    jtis.add(key.substring("jti:".length(), key.length() - ":blacklist".length()));
+                }
+            }
+            return null;
+        });
+        return jtis;
+    }
+
+    /**
+     * 고정 크기 Bloom 필터 (스레드 안전, 삭제 불가)
+     * - 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = m/n·ln2
+     * - 64비트 해시 하나에서 두 값을 만들어 k 개의 위치를 계산 (double hashing)
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, m);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64비트
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        // 비트 분산 (SplitMix64 finalizer)
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return (z ^ (z >>> 31)) | 1L; // 두 번째 해시가 0 이 되지 않도록
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자별 토큰 버전(epoch) 로컬 캐시
+ * - 토큰에는 발급 시점의 버전(ver 클레임)을 넣고, 요청마다 로컬에 캐시된 현재 버전과 비교한다. (네트워크 I/O 없음)
+ * - 관리자의 모든 토큰 폐기는 token:epoch:{email} 카운터를 1 올리는 것으로 끝난다. (토큰 수와 무관, 토큰별 키 없음)
+ * - 버전 변경은 Redis pub/sub(token:epoch:events)으로 모든 서버에 전파한다.
+ * - pub/sub 은 유실될 수 있으므로 주기적으로 캐시된 관리자의 버전을 Redis 에서 다시 읽는다.
+ * - 로컬 버전은 내려가지 않는다. (늦게 도착한 이전 값으로 폐기가 되돌려지지 않도록)
+ * - Redis 초기화는 세대 키(token:epoch:generation)가 바뀐 것으로 감지하고, 로컬에 남은 버전을 Redis 에 되돌려 놓는다.
+ *   (카운터가 0 부터 다시 시작하면 이후 폐기가 기존 토큰 버전보다 낮아 효과가 없으므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalTokenEpochCache implements MessageListener {
+
+    public static final String EPOCH_PREFIX = "token:epoch:";
+    public static final String CHANNEL = "token:epoch:events";
+    public static final String GENERATION_KEY = "token:epoch:generation";
+
+    private static final String DELIMITER = "|";
+    private static final String ENTRY_DELIMITER = "\n";
+
+    // KEYS: token:epoch:{email} 목록, ARGV[1]: 전파 채널, ARGV[i + 1]: KEYS[i] 의 이메일
+    // 모든 관리자의 버전을 올리고 변경 내용을 한 번에 전파 - 올라간 버전 목록 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local epochs = {} " +
+                    "local messages = {} " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "  local epoch = redis.call('INCR', key) " +
+                    "  epochs[i] = epoch " +
+                    "  messages[i] = ARGV[i + 1] .. '|' .. epoch " +
+                    "end " +
+                    "redis.call('PUBLISH', ARGV[1], table.concat(messages, '\\n')) " +
+                    "return epochs",
+            List.class);
+
+    // KEYS: token:epoch:{email} 목록, ARGV[i]: KEYS[i] 의 로컬 버전
+    // Redis 값이 로컬 버전보다 낮을 때만 올림 (그 사이 다른 서버가 올린 값은 유지)
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local restored = 0 " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "  local current = tonumber(redis.call('GET', key) or '0') " +
+                    "  if current < tonumber(ARGV[i]) then " +
+                    "    redis.call('SET', key, ARGV[i]) " +
+                    "    restored = restored + 1 " +
+                    "  end " +
+                    "end " +
+                    "return restored",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    // 이메일 → 현재 토큰 버전
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+    // 마지막으로 확인한 Redis 세대 (바뀌면 Redis 가 초기화된 것)
+    private volatile String generation;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        // 장애 중 유실된 전파 보정
+        circuitBreaker.addRecoveryListener(this::resync);
+    }
+
+    // 요청 경로용 - 캐시에 없을 때만 Redis 조회
+    // 캐시에 없고 Redis 장애로 확인할 수 없으면 null (0 으로 간주하면 폐기된 토큰이 모두 통과하므로 호출하는 쪽에서 거부)
+    public Long currentEpoch(String email) {
+        Long cached = epochs.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        Long loaded = circuitBreaker.execute(() -> readEpoch(email), () -> null);
+        if (loaded == null) {
+            return null;
+        }
+        return epochs.merge(email, loaded, Math::max);
+    }
+
+    // 로그인(토큰 발급)용 - 다른 서버에서 올린 버전을 놓치지 않도록 Redis 에서 직접 읽음
+    public long loadEpoch(String email) {
+        Long loaded = circuitBreaker.execute(() -> readEpoch(email), () -> null);
+        if (loaded == null) {
+            return epochs.getOrDefault(email, 0L);
+        }
+        return epochs.merge(email, loaded, Math::max);
+    }
+
+    // 관리자들의 토큰 버전을 한 번의 왕복으로 올리고 전파 (이전 버전으로 발급된 토큰은 모두 무효)
+    public void bump(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(emails.size());
+        List<String> args = new ArrayList<>(emails.size() + 1);
+        args.add(CHANNEL);
+        for (String email : emails) {
+            keys.add(EPOCH_PREFIX + email);
+            args.add(email);
+        }
+
+        List<?> bumped = redisTemplate.execute(BUMP_SCRIPT, keys, args.toArray());
+
+        // 이 서버에는 바로 반영 (pub/sub 수신을 기다리지 않음)
+        if (bumped != null) {
+            int i = 0;
+            for (String email : emails) {
+                epochs.merge(email, ((Number) bumped.get(i++)).longValue(), Math::max);
+            }
+        }
+        log.info("[LocalTokenEpochCache] 토큰 버전 갱신 - 관리자 {}명", emails.size());
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+
+    // 메시지 형식: email|epoch (여러 건이면 줄바꿈으로 구분)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String entry : body.split(ENTRY_DELIMITER)) {
+            // 이메일에 | 가 있을 수 있으므로 마지막 구분자 기준으로 나눔
+            int index = entry.lastIndexOf(DELIMITER);
+            if (index <= 0) {
+                log.warn("[LocalTokenEpochCache] 알 수 없는 메시지: {}", entry);
+                continue;
+            }
+            try {
+                epochs.merge(entry.substring(0, index), Long.parseLong(entry.substring(index + 1)), Math::max);
+            } catch (NumberFormatException e) {
+                log.warn("[LocalTokenEpochCache] 잘못된 메시지: {}", entry);
+            }
+        }
+    }
+
+    // 캐시된 관리자의 버전을 Redis 값으로 다시 맞춤 (유실된 메시지 보정)
+    @Scheduled(fixedDelayString = "${jwt.epoch.resync-interval-ms:60000}",
+            initialDelayString = "${jwt.epoch.resync-interval-ms:60000}")
+    public void resync() {
+        // 장애 중에는 로컬 캐시를 그대로 유지
+        if (!circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            String current = currentGeneration();
+            if (generation != null && !generation.equals(current)) {
+                restoreEpochs();
+            }
+            generation = current;
+
+            if (epochs.isEmpty()) {
+                return;
+            }
+            List<String> emails = new ArrayList<>(epochs.keySet());
+            List<String> keys = new ArrayList<>(emails.size());
+            for (String email : emails) {
+                keys.add(EPOCH_PREFIX + email);
+            }
+
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < emails.size(); i++) {
+                // 더 큰 값만 반영 (조회 도중 bump/메시지로 올라간 버전을 되돌리지 않도록)
+                String value = values.get(i);
+                if (value != null) {
+                    epochs.merge(emails.get(i), Long.parseLong(value), Math::max);
+                }
+            }
+            log.debug("[LocalTokenEpochCache] 동기화 완료 - 관리자 {}명", emails.size());
+        } catch (Exception e) {
+            // Redis 장애 시 기존 로컬 캐시 유지
+            log.warn("[LocalTokenEpochCache] 동기화 실패 - 기존 캐시 유지", e);
+        }
+    }
+
+    // 세대 키 조회 - 없으면(최초 실행 또는 Redis 초기화) 새로 만듦, 동시에 만들면 먼저 쓴 값이 사용됨
+    private String currentGeneration() {
+        String current = redisTemplate.opsForValue().get(GENERATION_KEY);
+        if (current != null) {
+            return current;
+        }
+        redisTemplate.opsForValue().setIfAbsent(GENERATION_KEY, UUID.randomUUID().toString());
+        return redisTemplate.opsForValue().get(GENERATION_KEY);
+    }
+
+    // Redis 초기화 후 로컬에 남은 버전을 Redis 에 되돌림 (이후 bump 가 기존 토큰 버전보다 큰 값을 만들도록)
+    private void restoreEpochs() {
+        Map<String, Long> snapshot = new HashMap<>(epochs);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(snapshot.size());
+        List<String> args = new ArrayList<>(snapshot.size());
+        snapshot.forEach((email, epoch) -> {
+            keys.add(EPOCH_PREFIX + email);
+            args.add(String.valueOf(epoch));
+        });
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, keys, args.toArray());
+        log.warn("[LocalTokenEpochCache] Redis 초기화 감지 - 토큰 버전 복원 {}건", restored);
+    }
+
+    private Long readEpoch(String email) {
+        String value = redisTemplate.opsForValue().get(EPOCH_PREFIX + email);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
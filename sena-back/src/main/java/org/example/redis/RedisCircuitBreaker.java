@@ -0,0 +1,150 @@
+package org.example.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 요청 경로에서 호출하는 Redis 명령용 서킷 브레이커
+ * - 연속 failure-threshold 회 실패(예외 또는 slow-call-ms 이상 지연)하면 OPEN: Redis 를 호출하지 않고 바로 fallback 사용
+ * - open-duration-ms 후 요청 하나만 Redis 로 시험 호출 (HALF_OPEN), 성공하면 CLOSED 로 복구하고 복구 리스너 실행
+ *   (복구 리스너는 전용 스레드에서 순서대로 실행 - 시험 호출한 요청이 재동기화를 기다리지 않음)
+ * - 상태는 redis.circuit.breaker.state 게이지로 노출 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long slowCallMs;
+    private final long openDurationMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    // Redis 복구 시 실행할 작업 (로컬에서만 반영된 데이터 재동기화 등)
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService recoveryExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "redis-circuit-recovery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisCircuitBreaker(MeterRegistry meterRegistry,
+                               @Value("${redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${redis.circuit-breaker.slow-call-ms:100}") long slowCallMs,
+                               @Value("${redis.circuit-breaker.open-duration-ms:5000}") long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.slowCallMs = slowCallMs;
+        this.openDurationMs = openDurationMs;
+
+        Gauge.builder("redis.circuit.breaker.state", state, s -> s.get().ordinal())
+                .description("Redis circuit breaker state (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    // Redis 호출 - 서킷이 열려 있거나 호출이 실패하면 fallback 결과 반환
+    public <T> T execute(Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!allowRequest()) {
+            return fallback.get();
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = redisCall.get();
+        } catch (RuntimeException e) {
+            onFailure("error: " + e.getMessage());
+            return fallback.get();
+        }
+
+        // 느린 호출은 결과는 사용하되 실패로 집계
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (elapsedMs >= slowCallMs) {
+            onFailure("slow call: " + elapsedMs + "ms");
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    public void addRecoveryListener(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    private boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // OPEN 유지 시간이 지나면 한 요청만 시험 호출
+        return current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= openDurationMs
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("[RedisCircuitBreaker] Redis 복구 - CLOSED 전환");
+            recoveryExecutor.execute(this::runRecoveryListeners);
+        }
+    }
+
+    private void runRecoveryListeners() {
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.error("[RedisCircuitBreaker] 복구 작업 실패", e);
+            }
+        }
+    }
+
+    private void onFailure(String reason) {
+        if (state.get() == State.HALF_OPEN) {
+            open(reason);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+            open(reason);
+        }
+    }
+
+    private void open(String reason) {
+        openedAt = System.currentTimeMillis();
+        State previous = state.getAndSet(State.OPEN);
+        if (previous != State.OPEN) {
+            log.warn("[RedisCircuitBreaker] {} → OPEN ({}), {}ms 동안 로컬 대체 동작", previous, reason, openDurationMs);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recoveryExecutor.shutdownNow();
+    }
+}
@@ -2,10 +2,19 @@ package org.example.redis;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -13,6 +22,86 @@ public class RedisIpRateLimitService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 요청 1건에 대한 판정 결과
+    public enum Verdict {
+        ALLOWED,        // 허용
+        BLOCKED,        // 이미 차단된 IP
+        NEWLY_BLOCKED,  // 이번 요청으로 한도를 넘어 새로 차단됨 (차단 기록은 이 경우에만 남김)
+        LIMITED         // 한도 초과 - 차단 없이 이번 요청만 거부 (차단 시간이 0 인 정책)
+    }
+
+    /*
+     * 요청 제한 스크립트 공통 규칙 (모든 알고리즘이 Redis 에서 원자적으로 실행, 왕복 1회)
+     * KEYS[1]: blocked_ip:{ip}, KEYS[2..]: 알고리즘별 카운터 키
+     * ARGV[1]: 허용 요청 수, ARGV[2]: 윈도우(ms), ARGV[3]: 차단 시간(ms), ARGV[4..]: 알고리즘별 값
+     * 반환: 0 = ALLOWED, 1 = BLOCKED, 2 = NEWLY_BLOCKED, 3 = LIMITED
+     */
+
+    // 스크립트 시작 - 이미 차단된 IP
+    public static final String BLOCKED_CHECK = "if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end ";
+
+    // 한도 초과 시 - 차단 시간이 있으면 SET NX 로 한 요청만 NEWLY_BLOCKED 를 받음
+    public static final String OVER_LIMIT =
+            "if tonumber(ARGV[3]) > 0 then " +
+                    "  if redis.call('SET', KEYS[1], '1', 'PX', ARGV[3], 'NX') then return 2 end " +
+                    "  return 1 " +
+                    "end " +
+                    "return 3 ";
+
+    // 고정 윈도우: 카운트 증가 → 만료 설정 (TTL 이 없으면 항상 다시 설정) → 한도 초과 판정
+    public static final RedisScript<Long> FIXED_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            BLOCKED_CHECK +
+                    "local count = redis.call('INCR', KEYS[2]) " +
+                    "if count == 1 or redis.call('PTTL', KEYS[2]) < 0 then " +
+                    "  redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "end " +
+                    "if count > tonumber(ARGV[1]) then " +
+                    OVER_LIMIT +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    public static String blockedKey(String ip) {
+        return "blocked_ip:" + ip;
+    }
+
+    // 공통 규칙을 따르는 요청 제한 스크립트 실행
+    public Verdict evaluate(RedisScript<Long> script, List<String> keys, Object... args) {
+        String[] stringArgs = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            stringArgs[i] = String.valueOf(args[i]);
+        }
+
+        Long result = redisTemplate.execute(script, keys, (Object[]) stringArgs);
+        if (result == null) {
+            return Verdict.ALLOWED;
+        }
+        switch (result.intValue()) {
+            case 1: return Verdict.BLOCKED;
+            case 2: return Verdict.NEWLY_BLOCKED;
+            case 3: return Verdict.LIMITED;
+            default: return Verdict.ALLOWED;
+        }
+    }
+
+    // IP 의 모든 정책 카운터 삭제 (req_count:{ip}, req_count:{ip}:*)
+    public void deleteCounters(String ip) {
+        redisTemplate.delete("req_count:" + ip);
+        Set<String> keys = new HashSet<>();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match("req_count:" + ip + ":*").count(1000).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        });
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
     public boolean hasKey(String key) {
         return redisTemplate.hasKey(key);
     }
@@ -3,8 +3,14 @@ package org.example.redis;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -13,38 +19,72 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
-    // 활성 토큰 저장 및 이메일-토큰 관계 저장 (Set에 추가)
-    public void storeActiveToken(String jti, String email, long expirationMillis) {
-        try {
-            // JTI 키에 이메일 저장 및 만료 시간 설정
-            redisTemplate.opsForValue().set("jti:" + jti, email, expirationMillis, TimeUnit.MILLISECONDS);
-
-            // 사용자 이메일 기준 활성 JTI 집합에 추가
-            redisTemplate.opsForSet().add("activeTokens:" + email, jti);
-
-            // 활성 JTI 집합 만료 시간 갱신 (토큰 만료 시간과 동기화)
-            redisTemplate.expire("activeTokens:" + email, expirationMillis, TimeUnit.MILLISECONDS);
-
-            // 로그 출력
-            log.info("[Redis] 활성 토큰 저장 완료, jti: {}, email: {}, 만료 시간: {}ms", jti, email, expirationMillis);
-
-        } catch (Exception e) {
-            log.error("[Redis] 활성 토큰 저장 중 오류 발생, jti: {}, email: {}", jti, email, e);
-            throw e; // 필요시 예외 재던지기 (또는 별도 처리)
-        }
-    }
+    // KEYS: activeTokens:{email} 목록, ARGV[1]: 남은 시간을 알 수 없을 때의 블랙리스트 유지 시간(ms), ARGV[2]: 폐기 전파 채널
+    // 사용자별 활성 JTI 를 모두 블랙리스트로 옮기고 활성 키/집합을 삭제한 뒤, 폐기된 JTI 를 한 번에 전파
+    // 주의: jti:{jti}, jti:{jti}:blacklist 키는 집합 내용에서 만들어지므로 KEYS 로 넘기지 않음 → 단일(standalone/sentinel) Redis 전용
+    //       Redis Cluster 에서는 다른 슬롯의 키 접근이 거부되므로 JTI 를 먼저 조회한 뒤 키를 KEYS 로 넘기는 방식으로 바꿔야 함
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local revoked = {} " +
+                    "for _, setKey in ipairs(KEYS) do " +
+                    "  local jtis = redis.call('SMEMBERS', setKey) " +
+                    "  for _, jti in ipairs(jtis) do " +
+                    "    local ttl = redis.call('PTTL', 'jti:' .. jti) " +
+                    "    if ttl <= 0 then ttl = tonumber(ARGV[1]) end " +
+                    "    redis.call('DEL', 'jti:' .. jti) " +
+                    "    redis.call('SET', 'jti:' .. jti .. ':blacklist', 'blacklisted', 'PX', ttl) " +
+                    "    revoked[#revoked + 1] = jti " +
+                    "  end " +
+                    "  redis.call('DEL', setKey) " +
+                    "end " +
+                    "if #revoked > 0 then redis.call('PUBLISH', ARGV[2], table.concat(revoked, ',')) end " +
+                    "return revoked",
+            List.class);
 
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final LocalRevokedTokenCache localRevokedTokenCache;
 
+    // 로컬 Bloom 필터에 없으면 Redis 조회 없이 통과 - 필터에 있을 때만 Redis 로 최종 확인
+    // Redis 장애(서킷 OPEN) 시 필터에 있는 JTI 는 폐기된 것으로 간주 (오탐 토큰도 복구 전까지 거부됨)
+    // 단, 첫 재구성 전(필터 미준비)에는 모든 JTI 가 필터를 통과하므로 거부하지 않음 (시작 시 Redis 장애로 전체 요청이 막히지 않도록)
     public boolean isBlacklisted(String jti) {
-        return redisTemplate.hasKey("jti:" + jti + ":blacklist");
+        if (!localRevokedTokenCache.mightBeRevoked(jti)) {
+            return false;
+        }
+        return circuitBreaker.execute(
+                () -> Boolean.TRUE.equals(redisTemplate.hasKey("jti:" + jti + ":blacklist")),
+                localRevokedTokenCache::isReady);
     }
 
     public void blacklistToken(String jti, long expirationMillis) {
         redisTemplate.opsForValue().set("jti:" + jti + ":blacklist", "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
     }
 
+    // 여러 사용자의 활성 토큰 전체를 한 번의 왕복으로 블랙리스트 처리 (세션 수와 무관) - 폐기된 JTI 반환
+    public List<String> revokeAllActiveTokens(Collection<String> emails, long defaultExpirationMillis) {
+        if (emails.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> keys = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            keys.add("activeTokens:" + email);
+        }
+
+        List<?> revoked = redisTemplate.execute(REVOKE_ALL_SCRIPT, keys,
+                String.valueOf(defaultExpirationMillis), LocalRevokedTokenCache.CHANNEL);
+        if (revoked == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> jtis = new ArrayList<>(revoked.size());
+        for (Object jti : revoked) {
+            jtis.add(String.valueOf(jti));
+        }
+        log.info("[Redis] 활성 토큰 일괄 블랙리스트 처리 완료, 사용자: {}명, 토큰: {}개", emails.size(), jtis.size());
+        return jtis;
+    }
+
     // 이메일 기준 활성 토큰(JTI) 목록 조회
     public Set<String> getUserActiveTokens(String email) {
         return redisTemplate.opsForSet().members("activeTokens:" + email);
@@ -0,0 +1,58 @@
+package org.example.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * 예약 작업용 Redis 잠금 (서버가 여러 대여도 한 서버만 실행)
+ * - SET NX + TTL 로 잠금을 잡고, 작업이 끝나면 잡은 서버만 해제한다. (토큰 비교)
+ * - 작업이 비정상 종료되어도 TTL 이 지나면 풀린다. (TTL 은 작업 최대 소요 시간보다 길게)
+ * - Redis 장애로 잠금을 잡지 못하면 실행하지 않는다. (동시에 실행되는 것보다 한 번 건너뛰는 편이 안전한 작업용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+    // 잠금을 잡은 서버만 해제 (KEYS[1]: 잠금 키, ARGV[1]: 잠금 토큰)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 잠금을 잡으면 작업 실행 후 true, 다른 서버가 실행 중이거나 Redis 장애면 실행하지 않고 false
+    public boolean runExclusively(String lockKey, Duration ttl, Runnable job) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, ttl);
+        } catch (Exception e) {
+            log.warn("[ScheduledJobLock] 잠금 획득 실패 - 이번 실행 건너뜀: {}", lockKey, e);
+            return false;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("[ScheduledJobLock] 다른 서버에서 실행 중 - 건너뜀: {}", lockKey);
+            return false;
+        }
+
+        try {
+            job.run();
+            return true;
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(lockKey), token);
+            } catch (Exception e) {
+                log.warn("[ScheduledJobLock] 잠금 해제 실패 - 만료 후 자동 해제: {}", lockKey, e);
+            }
+        }
+    }
+}
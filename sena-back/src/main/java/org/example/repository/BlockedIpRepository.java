@@ -2,11 +2,19 @@ package org.example.repository;
 
 import org.example.entity.BlockedIpEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BlockedIpRepository extends JpaRepository<BlockedIpEntity, Long> {
 
+    // 아직 차단 기간이 끝나지 않은 IP 중 주어진 IP 목록에 해당하는 것
+    @Query("select distinct b.ip from BlockedIpEntity b where b.ip in :ips and b.unblockAt > :now")
+    List<String> findActivelyBlockedIps(@Param("ips") Collection<String> ips, @Param("now") LocalDateTime now);
 }
@@ -3,7 +3,11 @@ package org.example.repository;
 import org.example.entity.BaseEntity;
 import org.example.entity.ItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
@@ -13,8 +17,29 @@ public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
 
     List<ItemEntity> findByStatusNot(BaseEntity.Status status);
 
+    // 아이템 + 최근 수정 로그 + 작성자를 한 번에 조회
+    @Query("select i from ItemEntity i " +
+            "left join fetch i.lastUpdateLog l " +
+            "left join fetch l.admin " +
+            "where i.status <> :status")
+    List<ItemEntity> findWithLastUpdateByStatusNot(@Param("status") BaseEntity.Status status);
+
+    // 최근 수정 로그가 비어 있는 아이템 채우기 (컬럼 추가 이전 데이터)
+    @Modifying
+    @Query(value =
+            "UPDATE item i SET i.last_update_log_id = ( " +
+                    "    SELECT u.update_log_id FROM update_log u " +
+                    "    WHERE u.item_id = i.item_id " +
+                    "    ORDER BY u.updated_at DESC, u.update_log_id DESC LIMIT 1) " +
+                    "WHERE i.last_update_log_id IS NULL"
+            , nativeQuery = true)
+    int backfillLastUpdateLog();
+
     boolean existsByItemNameAndStatusNotAndItemIdNot(String itemName, BaseEntity.Status status, Long itemId);
 
     List<ItemEntity> findAllByStatus(BaseEntity.Status status);
 
+    // 일괄 등록/수정 시 이름 중복을 한 번에 확인
+    List<ItemEntity> findByItemNameInAndStatusNot(Collection<String> itemNames, BaseEntity.Status status);
+
 }
@@ -3,10 +3,32 @@ package org.example.repository;
 import org.example.entity.ItemEntity;
 import org.example.entity.PackageItemEntity;
 import org.springframework.data.domain.Sort;
+import org.example.entity.BaseEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PackageItemRepository extends JpaRepository<PackageItemEntity, Long> {
     List<PackageItemEntity> findByItem(ItemEntity item);
+
+    // 아이템이 포함된 구성품 + 소속 패키지 (패키지 합계 갱신용)
+    @Query("select pi from PackageItemEntity pi join fetch pi.packageEntity where pi.item = :item")
+    List<PackageItemEntity> findByItemWithPackage(@Param("item") ItemEntity item);
+
+    // 여러 아이템의 구성품 + 소속 패키지 (일괄 수정 시 패키지 합계 갱신용)
+    @Query("select pi from PackageItemEntity pi join fetch pi.packageEntity where pi.item in :items")
+    List<PackageItemEntity> findByItemInWithPackage(@Param("items") Collection<ItemEntity> items);
+
+    // 아이템 상태를 구성품에 한 번에 반영 (엔티티를 읽지 않는 단일 UPDATE)
+    // 실행 전 보류 중인 변경을 flush 하고, 실행 후 영속성 컨텍스트를 비워 이전 상태의 엔티티가 남지 않게 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PackageItemEntity pi set pi.status = :status, pi.updatedAt = :updatedAt where pi.item.itemId in :itemIds")
+    int updateStatusByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                              @Param("status") BaseEntity.Status status,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 }
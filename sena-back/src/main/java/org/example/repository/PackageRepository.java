@@ -3,16 +3,106 @@ package org.example.repository;
 import org.example.entity.BaseEntity;
 import org.example.entity.PackageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PackageRepository extends JpaRepository<PackageEntity, Long> {
 
     List<PackageEntity> findAllByStatus(BaseEntity.Status status);
 
+    // 패키지 + 구성품 + 아이템을 한 번의 쿼리로 조회 (구성품/아이템 상태 필터는 호출 측에서)
+    @Query("select distinct p from PackageEntity p " +
+            "left join fetch p.packageItems pi " +
+            "left join fetch pi.item " +
+            "where p.status = :status " +
+            "order by p.packageId")
+    List<PackageEntity> findAllWithItemsByStatus(@Param("status") BaseEntity.Status status);
+
+    // 전체 패키지 + 구성품 + 아이템 (합계 검증용)
+    @Query("select distinct p from PackageEntity p " +
+            "left join fetch p.packageItems pi " +
+            "left join fetch pi.item")
+    List<PackageEntity> findAllWithItems();
+
+    // 검증 중 다른 수정이 끼어들었으면(저장된 값이 바뀌었으면) 덮어쓰지 않음
+    @Modifying
+    @Query("update PackageEntity p set p.totalRuby = :totalRuby, p.totalCash = :totalCash " +
+            "where p.packageId = :packageId " +
+            "and (p.totalRuby = :expected or (p.totalRuby is null and :expected is null))")
+    int repairTotals(@Param("packageId") Long packageId,
+                     @Param("expected") Double expected,
+                     @Param("totalRuby") Double totalRuby,
+                     @Param("totalCash") Double totalCash);
+
     boolean existsByPackageNameAndStatusNot(String packageName, BaseEntity.Status status);
 
     boolean existsByPackageNameAndStatusNotAndPackageIdNot(String packageName, BaseEntity.Status status, Long packageId);
 
     List<PackageEntity> findByStatusNot(BaseEntity.Status status);
+
+    // 일괄 등록/수정 시 이름 중복을 한 번에 확인
+    List<PackageEntity> findByPackageNameInAndStatusNot(Collection<String> packageNames, BaseEntity.Status status);
+
+    // 일괄 수정 대상 패키지 + 구성품을 한 번에 조회
+    @Query("select distinct p from PackageEntity p " +
+            "left join fetch p.packageItems " +
+            "where p.packageId in :packageIds")
+    List<PackageEntity> findAllWithItemsByPackageIdIn(@Param("packageIds") Collection<Long> packageIds);
+
+    // 패키지 + 구성품 + 아이템 + 최근 수정 로그/작성자를 한 번에 조회
+    @Query("select distinct p from PackageEntity p " +
+            "left join fetch p.packageItems pi " +
+            "left join fetch pi.item " +
+            "left join fetch p.lastUpdateLog l " +
+            "left join fetch l.admin " +
+            "where p.status <> :status " +
+            "order by p.packageId")
+    List<PackageEntity> findWithItemsAndLastUpdateByStatusNot(@Param("status") BaseEntity.Status status);
+
+    // 아이템이 포함된 패키지들의 총 루비/현금가를 구성품 기준으로 한 번에 재계산 (PackageTotals 와 같은 규칙)
+    // MySQL 은 SET 을 왼쪽부터 적용하므로 total_cash 는 새 total_ruby 로 계산됨
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value =
+            "UPDATE package p SET " +
+                    "    p.total_ruby = ( " +
+                    "        SELECT COALESCE(SUM(i.ruby * pi.quantity), 0) " +
+                    "        FROM package_item pi JOIN item i ON i.item_id = pi.item_id " +
+                    "        WHERE pi.package_id = p.package_id AND pi.status = 'ACTIVE' AND i.status = 'ACTIVE'), " +
+                    "    p.total_cash = p.total_ruby * :cashPerRuby " +
+                    "WHERE p.package_id IN (SELECT pi2.package_id FROM package_item pi2 WHERE pi2.item_id IN (:itemIds))"
+            , nativeQuery = true)
+    int recalculateTotalsForItems(@Param("itemIds") Collection<Long> itemIds, @Param("cashPerRuby") double cashPerRuby);
+
+    // 아이템 변경으로 생긴 루비 차이를 DB 에서 원자적으로 더함 (동시에 다른 아이템이 수정되어도 갱신이 유실되지 않음)
+    // 아직 계산된 적 없는 패키지(total_ruby NULL)는 구성품 기준으로 전체 계산 - 변경된 아이템이 먼저 반영되도록 flush 후 실행
+    // MySQL 은 SET 을 왼쪽부터 적용하므로 total_cash 는 새 total_ruby 로 계산됨
+    @Modifying(flushAutomatically = true)
+    @Query(value =
+            "UPDATE package p SET " +
+                    "    p.total_ruby = CASE WHEN p.total_ruby IS NULL THEN ( " +
+                    "        SELECT COALESCE(SUM(i.ruby * pi.quantity), 0) " +
+                    "        FROM package_item pi JOIN item i ON i.item_id = pi.item_id " +
+                    "        WHERE pi.package_id = p.package_id AND pi.status = 'ACTIVE' AND i.status = 'ACTIVE') " +
+                    "    ELSE p.total_ruby + :deltaRuby END, " +
+                    "    p.total_cash = p.total_ruby * :cashPerRuby " +
+                    "WHERE p.package_id = :packageId"
+            , nativeQuery = true)
+    int addToTotals(@Param("packageId") Long packageId,
+                    @Param("deltaRuby") double deltaRuby,
+                    @Param("cashPerRuby") double cashPerRuby);
+
+    // 최근 수정 로그가 비어 있는 패키지 채우기 (컬럼 추가 이전 데이터)
+    @Modifying
+    @Query(value =
+            "UPDATE package p SET p.last_update_log_id = ( " +
+                    "    SELECT u.update_log_id FROM update_log u " +
+                    "    WHERE u.package_id = p.package_id " +
+                    "    ORDER BY u.updated_at DESC, u.update_log_id DESC LIMIT 1) " +
+                    "WHERE p.last_update_log_id IS NULL"
+            , nativeQuery = true)
+    int backfillLastUpdateLog();
 }
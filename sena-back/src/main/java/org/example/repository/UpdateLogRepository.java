@@ -1,7 +1,16 @@
 package org.example.repository;
 
+import org.example.entity.BaseEntity;
 import org.example.entity.UpdateLogEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface UpdateLogRepository extends JpaRepository<UpdateLogEntity,Long> {
+
+    // 해당 상태 패키지들의 마지막 수정 시각 (로그 엔티티를 조회하지 않고 집계만)
+    @Query("select max(u.updatedAt) from UpdateLogEntity u join u.packageEntity p where p.status = :status")
+    LocalDateTime findLatestPackageUpdatedAt(@Param("status") BaseEntity.Status status);
 }
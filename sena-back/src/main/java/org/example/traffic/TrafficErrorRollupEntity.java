@@ -0,0 +1,41 @@
+package org.example.traffic;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 비즈니스 오류 코드별 사전 집계 테이블 (시간 단위 버킷)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "traffic_error_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_traffic_error_rollup_bucket",
+                columnNames = {"granularity", "bucket_start", "uri", "error_code"}))
+public class TrafficErrorRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private TrafficRollupEntity.Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "uri", nullable = false)
+    private String uri;
+
+    @Column(name = "error_code", nullable = false, length = 50)
+    private String errorCode;
+
+    @Column(name = "error_count", nullable = false)
+    private long errorCount;
+}
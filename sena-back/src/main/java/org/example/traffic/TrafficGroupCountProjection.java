@@ -0,0 +1,6 @@
+package org.example.traffic;
+
+public interface TrafficGroupCountProjection {
+    String getGroupKey();
+    Long getCount();
+}
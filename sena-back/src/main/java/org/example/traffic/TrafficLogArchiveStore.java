@@ -0,0 +1,308 @@
+package org.example.traffic;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관(archive)된 traffic_log 세그먼트 파일 저장소
+ * - 하루치 로그를 traffic_log-yyyyMMdd.seg.gz 한 파일로 저장한다. (created_at, id 내림차순 = 조회 화면 순서)
+ * - 파일은 행 묶음(row group) 단위로 나뉘고, 각 묶음 안에서는 컬럼별로 모아서 기록한다. (같은 종류의 값이 붙어 있어 압축률이 좋음)
+ *   [행 수][id...][created_at...][http_method...][uri...] ... 반복, 마지막은 행 수 0
+ * - manifest.json 에 보관된 날짜별 파일명/행 수를 기록해서 조회 시 파일을 열지 않고도 범위와 건수를 알 수 있다.
+ * - 보관 디렉터리는 여러 서버가 함께 쓰므로 manifest 는 조회 시 파일이 바뀌었으면(수정 시각/크기) 다시 읽고,
+ *   저장 시에는 파일의 최신 내용에 이 서버의 항목을 합쳐서 쓴다. (다른 서버가 보관한 날짜를 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+public class TrafficLogArchiveStore {
+
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path baseDir;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 날짜(yyyyMMdd) → 세그먼트 정보
+    private final Map<String, SegmentInfo> manifest = new TreeMap<>();
+
+    // 마지막으로 읽은 manifest 파일의 수정 시각/크기 (바뀌면 다시 읽음)
+    private FileTime manifestModifiedAt;
+    private long manifestSize = -1;
+
+    public TrafficLogArchiveStore(@Value("${traffic.archive.dir:./archive/traffic-log}") String dir) {
+        this.baseDir = Paths.get(dir);
+        reload();
+        log.info("[TrafficLogArchive] manifest 로드 - 보관된 일수: {}", manifest.size());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SegmentInfo {
+        private String file;
+        private long rowCount;
+        private String archivedAt;
+    }
+
+    public synchronized boolean isArchived(LocalDate day) {
+        refreshIfChanged();
+        return manifest.containsKey(day.format(DAY_FORMAT));
+    }
+
+    // [start, end] 기간 중 보관된 날짜 (최신 날짜부터)
+    public synchronized List<LocalDate> getArchivedDays(LocalDate start, LocalDate end) {
+        refreshIfChanged();
+        List<LocalDate> days = new ArrayList<>();
+        for (String key : manifest.keySet()) {
+            LocalDate day = LocalDate.parse(key, DAY_FORMAT);
+            if (!day.isBefore(start) && !day.isAfter(end)) {
+                days.add(day);
+            }
+        }
+        Collections.reverse(days);
+        return days;
+    }
+
+    public synchronized long getRowCount(LocalDate day) {
+        refreshIfChanged();
+        SegmentInfo info = manifest.get(day.format(DAY_FORMAT));
+        return info != null ? info.getRowCount() : 0L;
+    }
+
+    // 하루치 세그먼트 쓰기 시작 - 임시 파일에 기록하고 commit 시점에 교체
+    public SegmentWriter openWriter(LocalDate day) throws IOException {
+        Files.createDirectories(baseDir);
+        String fileName = "traffic_log-" + day.format(DAY_FORMAT) + ".seg.gz";
+        return new SegmentWriter(day, fileName, baseDir.resolve(fileName + ".tmp"));
+    }
+
+    // 세그먼트의 행을 저장된 순서(최신순)대로 visitor 에 전달 - visitor 가 false 를 반환하면 중단
+    public void scan(LocalDate day, Predicate<TrafficLogEntity> visitor) {
+        SegmentInfo info;
+        synchronized (this) {
+            refreshIfChanged();
+            info = manifest.get(day.format(DAY_FORMAT));
+        }
+        if (info == null) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(baseDir.resolve(info.getFile())), 64 * 1024)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 세그먼트 버전: " + version);
+            }
+
+            int rows;
+            while ((rows = in.readInt()) > 0) {
+                for (TrafficLogEntity entity : readRowGroup(in, rows)) {
+                    if (!visitor.test(entity)) {
+                        return;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("트래픽 로그 보관 파일 읽기 실패: " + info.getFile(), e);
+        }
+    }
+
+    public class SegmentWriter implements Closeable {
+        private final LocalDate day;
+        private final String fileName;
+        private final Path tempFile;
+        private final DataOutputStream out;
+        private long rowCount;
+        private boolean committed;
+
+        private SegmentWriter(LocalDate day, String fileName, Path tempFile) throws IOException {
+            this.day = day;
+            this.fileName = fileName;
+            this.tempFile = tempFile;
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile), 64 * 1024)));
+            out.writeInt(FORMAT_VERSION);
+        }
+
+        public void writeRowGroup(List<TrafficLogEntity> rows) throws IOException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            out.writeInt(rows.size());
+            for (TrafficLogEntity r : rows) out.writeLong(r.getId());
+            for (TrafficLogEntity r : rows) {
+                out.writeLong(r.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(r.getCreatedAt().getNano());
+            }
+            for (TrafficLogEntity r : rows) writeString(out, r.getHttpMethod());
+            for (TrafficLogEntity r : rows) writeString(out, r.getUri());
+            for (TrafficLogEntity r : rows) writeString(out, r.getQueryString());
+            for (TrafficLogEntity r : rows) writeString(out, r.getClientIp());
+            for (TrafficLogEntity r : rows) out.writeInt(r.getHttpStatus());
+            for (TrafficLogEntity r : rows) writeString(out, r.getBusinessErrorCode());
+            for (TrafficLogEntity r : rows) out.writeInt(r.getResponseTimeMs());
+            for (TrafficLogEntity r : rows) out.writeBoolean(r.isAdmin());
+            for (TrafficLogEntity r : rows) writeString(out, r.getUserId());
+            for (TrafficLogEntity r : rows) out.writeInt(r.getDbQueryCount());
+            rowCount += rows.size();
+        }
+
+        // 파일을 확정하고 manifest 에 등록
+        public long commit() throws IOException {
+            out.writeInt(0);
+            out.close();
+            Files.move(tempFile, baseDir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (TrafficLogArchiveStore.this) {
+                // 파일의 최신 내용에 이 날짜만 덮어써서 저장
+                reload();
+                manifest.put(day.format(DAY_FORMAT), new SegmentInfo(fileName, rowCount, LocalDateTime.now().toString()));
+                saveManifest();
+            }
+            committed = true;
+            return rowCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private static List<TrafficLogEntity> readRowGroup(DataInputStream in, int rows) throws IOException {
+        long[] ids = new long[rows];
+        LocalDateTime[] createdAts = new LocalDateTime[rows];
+        String[] methods = new String[rows];
+        String[] uris = new String[rows];
+        String[] queryStrings = new String[rows];
+        String[] clientIps = new String[rows];
+        int[] statuses = new int[rows];
+        String[] errorCodes = new String[rows];
+        int[] responseTimes = new int[rows];
+        boolean[] admins = new boolean[rows];
+        String[] userIds = new String[rows];
+        int[] dbQueryCounts = new int[rows];
+
+        for (int i = 0; i < rows; i++) ids[i] = in.readLong();
+        for (int i = 0; i < rows; i++) {
+            long seconds = in.readLong();
+            createdAts[i] = LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+        }
+        for (int i = 0; i < rows; i++) methods[i] = readString(in);
+        for (int i = 0; i < rows; i++) uris[i] = readString(in);
+        for (int i = 0; i < rows; i++) queryStrings[i] = readString(in);
+        for (int i = 0; i < rows; i++) clientIps[i] = readString(in);
+        for (int i = 0; i < rows; i++) statuses[i] = in.readInt();
+        for (int i = 0; i < rows; i++) errorCodes[i] = readString(in);
+        for (int i = 0; i < rows; i++) responseTimes[i] = in.readInt();
+        for (int i = 0; i < rows; i++) admins[i] = in.readBoolean();
+        for (int i = 0; i < rows; i++) userIds[i] = readString(in);
+        for (int i = 0; i < rows; i++) dbQueryCounts[i] = in.readInt();
+
+        List<TrafficLogEntity> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(TrafficLogEntity.builder()
+                    .id(ids[i])
+                    .createdAt(createdAts[i])
+                    .httpMethod(methods[i])
+                    .uri(uris[i])
+                    .queryString(queryStrings[i])
+                    .clientIp(clientIps[i])
+                    .httpStatus(statuses[i])
+                    .businessErrorCode(errorCodes[i])
+                    .responseTimeMs(responseTimes[i])
+                    .isAdmin(admins[i])
+                    .userId(userIds[i])
+                    .dbQueryCount(dbQueryCounts[i])
+                    .build());
+        }
+        return result;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // manifest 파일을 다시 읽음 - 보관 작업은 잠금을 잡은 뒤 항상 호출 (다른 서버가 마지막으로 보관한 내용 기준)
+    public synchronized void reload() {
+        Path file = baseDir.resolve(MANIFEST_FILE);
+        try {
+            if (!Files.exists(file)) {
+                manifest.clear();
+                manifestModifiedAt = null;
+                manifestSize = -1;
+                return;
+            }
+            FileTime modifiedAt = Files.getLastModifiedTime(file);
+            long size = Files.size(file);
+            Map<String, SegmentInfo> loaded = objectMapper.readValue(file.toFile(), new TypeReference<Map<String, SegmentInfo>>() {});
+            manifest.clear();
+            manifest.putAll(loaded);
+            manifestModifiedAt = modifiedAt;
+            manifestSize = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("트래픽 로그 보관 manifest 읽기 실패: " + file, e);
+        }
+    }
+
+    // 다른 서버가 manifest 를 바꿨으면 다시 읽음 (파일 상태 조회 1회)
+    private void refreshIfChanged() {
+        Path file = baseDir.resolve(MANIFEST_FILE);
+        try {
+            if (!Files.exists(file)) {
+                if (manifestSize >= 0) {
+                    reload();
+                }
+                return;
+            }
+            if (!Files.getLastModifiedTime(file).equals(manifestModifiedAt) || Files.size(file) != manifestSize) {
+                reload();
+                log.info("[TrafficLogArchive] manifest 변경 감지 - 보관된 일수: {}", manifest.size());
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // 읽기 실패 시 기존 목록으로 조회 (다음 조회 때 다시 시도)
+            log.warn("[TrafficLogArchive] manifest 갱신 확인 실패 - 기존 목록 사용", e);
+        }
+    }
+
+    private void saveManifest() throws IOException {
+        Path file = baseDir.resolve(MANIFEST_FILE);
+        Path temp = baseDir.resolve(MANIFEST_FILE + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), manifest);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        manifestModifiedAt = Files.getLastModifiedTime(file);
+        manifestSize = Files.size(file);
+    }
+}
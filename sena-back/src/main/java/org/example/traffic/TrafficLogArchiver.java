@@ -0,0 +1,173 @@
+package org.example.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.example.redis.ScheduledJobLock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오래된 traffic_log 를 로컬 압축 파일로 옮기는 보관 작업
+ * - horizon-days 보다 오래된 날짜를 하루씩 처리한다.
+ * - 하루치 행을 chunk-size 단위로 나눠 읽어 세그먼트 파일에 기록하고 (전체를 메모리에 올리지 않음)
+ *   파일이 확정된 뒤에만 DB 에서 삭제한다. (일 파티션이면 DROP PARTITION, 아니면 나눠서 DELETE)
+ * - 보관이 켜져 있으면 TrafficLogPartitionManager 의 보관 기간 삭제는 동작하지 않는다.
+ * - 여러 서버에서 동시에 실행되지 않도록 Redis 잠금(traffic:archive:lock)을 잡은 서버만 보관한다.
+ * - 세그먼트 파일은 traffic.archive.dir 에 기록되므로, 서버가 여러 대면 이 경로는 모든 서버가 함께 쓰는 저장소여야 한다.
+ *   (서버별 로컬 디스크면 보관한 서버에서만 보관된 로그를 조회할 수 있음)
+ */
+@Slf4j
+@Component
+public class TrafficLogArchiver {
+
+    private static final String LOCK_KEY = "traffic:archive:lock";
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT id, http_method, uri, query_string, client_ip, http_status, business_error_code, " +
+                    "response_time_ms, is_admin, user_id, db_query_count, created_at " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= ? AND created_at < ? " +
+                    "AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+                    "ORDER BY created_at DESC, id DESC " +
+                    "LIMIT ?";
+
+    private static final RowMapper<TrafficLogEntity> ROW_MAPPER = (rs, rowNum) -> TrafficLogEntity.builder()
+            .id(rs.getLong("id"))
+            .httpMethod(rs.getString("http_method"))
+            .uri(rs.getString("uri"))
+            .queryString(rs.getString("query_string"))
+            .clientIp(rs.getString("client_ip"))
+            .httpStatus(rs.getInt("http_status"))
+            .businessErrorCode(rs.getString("business_error_code"))
+            .responseTimeMs(rs.getInt("response_time_ms"))
+            .isAdmin(rs.getBoolean("is_admin"))
+            .userId(rs.getString("user_id"))
+            .dbQueryCount(rs.getInt("db_query_count"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrafficLogArchiveStore archiveStore;
+    private final TrafficLogPartitionManager partitionManager;
+    private final ScheduledJobLock jobLock;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int chunkSize;
+
+    public TrafficLogArchiver(JdbcTemplate jdbcTemplate,
+                              TrafficLogArchiveStore archiveStore,
+                              TrafficLogPartitionManager partitionManager,
+                              ScheduledJobLock jobLock,
+                              @Value("${traffic.archive.enabled:false}") boolean enabled,
+                              @Value("${traffic.archive.horizon-days:30}") int horizonDays,
+                              @Value("${traffic.archive.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveStore = archiveStore;
+        this.partitionManager = partitionManager;
+        this.jobLock = jobLock;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.chunkSize = chunkSize;
+    }
+
+    // 매일 새벽 1시 - horizon 이전 날짜를 보관
+    @Scheduled(cron = "0 0 1 * * *")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+
+        // 한 서버만 실행 (잠금은 작업이 비정상 종료되어도 6시간 후 풀림, Redis 장애 시 다음 실행 때 다시 시도)
+        jobLock.runExclusively(LOCK_KEY, Duration.ofHours(6), this::archiveExpiredDays);
+    }
+
+    private void archiveExpiredDays() {
+        // 이전에 다른 서버가 보관한 날짜를 반영 (오래된 목록으로 보관 여부를 판단하면 삭제 도중인 날짜를 남은 행만으로 다시 쓰게 됨)
+        try {
+            archiveStore.reload();
+        } catch (UncheckedIOException e) {
+            log.error("[TrafficLogArchiver] manifest 읽기 실패 - 이번 실행 건너뜀", e);
+            return;
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM traffic_log", Timestamp.class);
+        if (oldest == null) {
+            return;
+        }
+
+        LocalDate horizon = LocalDate.now().minusDays(horizonDays);
+        for (LocalDate day = oldest.toLocalDateTime().toLocalDate(); day.isBefore(horizon); day = day.plusDays(1)) {
+            try {
+                archiveDay(day);
+            } catch (Exception e) {
+                // 실패한 날짜는 DB 에 그대로 남으므로 다음 실행 때 다시 시도
+                log.error("[TrafficLogArchiver] {} 보관 실패", day, e);
+                return;
+            }
+        }
+    }
+
+    void archiveDay(LocalDate day) throws IOException {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+        // 이미 보관된 날짜에 남은 행이 있으면 (삭제 도중 중단 등) 파일은 그대로 두고 삭제만 마저 진행
+        if (!archiveStore.isArchived(day)) {
+            long rows = writeSegment(day, from, to);
+            log.info("[TrafficLogArchiver] {} 보관 파일 생성 - {}건", day, rows);
+        }
+
+        removeFromDatabase(day, from, to);
+    }
+
+    // (created_at, id) 내림차순 키셋으로 나눠 읽어서 세그먼트 파일에 기록
+    private long writeSegment(LocalDate day, Timestamp from, Timestamp to) throws IOException {
+        try (TrafficLogArchiveStore.SegmentWriter writer = archiveStore.openWriter(day)) {
+            Timestamp seekTime = to;
+            long seekId = Long.MAX_VALUE;
+
+            while (true) {
+                List<TrafficLogEntity> chunk = jdbcTemplate.query(SELECT_CHUNK_SQL, ROW_MAPPER,
+                        from, to, seekTime, seekTime, seekId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                writer.writeRowGroup(chunk);
+
+                TrafficLogEntity last = chunk.get(chunk.size() - 1);
+                seekTime = Timestamp.valueOf(last.getCreatedAt());
+                seekId = last.getId();
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            return writer.commit();
+        }
+    }
+
+    private void removeFromDatabase(LocalDate day, Timestamp from, Timestamp to) {
+        // 해당 날짜만 담은 일 파티션이 있으면 파티션 삭제로 즉시 제거
+        if (partitionManager.dropDayPartition(day)) {
+            return;
+        }
+
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(
+                    "DELETE FROM traffic_log WHERE created_at >= ? AND created_at < ? LIMIT ?", from, to, chunkSize);
+            deleted += affected;
+        } while (affected == chunkSize);
+        log.info("[TrafficLogArchiver] {} DB 삭제 - {}건", day, deleted);
+    }
+}
@@ -2,6 +2,7 @@ package org.example.traffic;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.common.dto.CursorPageResponseDto;
 import org.example.traffic.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -26,12 +27,27 @@ public class TrafficLogController {
         return ResponseEntity.ok(logs);
     }
 
+    // 커서 기반 로그 조회 (깊은 페이지도 일정한 속도)
+    @GetMapping("/logs/cursor")
+    public ResponseEntity<?> getTrafficLogsByCursor(TrafficLogRequestDto requestDto) {
+        CursorPageResponseDto<TrafficLogResponseDto> logs = trafficLogService.getTrafficLogsByCursor(requestDto);
+        return ResponseEntity.ok(logs);
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<?> getStatistics(TrafficStatsRequestDto dto) {
         TrafficStatsResponseDto response = trafficLogService.getStatistics(dto);
         return ResponseEntity.ok(response);
     }
 
+    // 지난 기간의 통계 사전 집계 재계산 (ROOT 전용)
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups(TrafficStatsRequestDto dto) {
+        log.info("트래픽 사전 집계 재계산 요청: {} ~ {}", dto.getStartDate(), dto.getEndDate());
+        trafficLogService.rebuildRollups(dto);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/top-uris")
     public ResponseEntity<?> getTopUriStats(TopUriStatsRequestDto requestDto) {
         log.debug("GET /top-uris called with params: {}", requestDto);
@@ -1,6 +1,8 @@
 package org.example.traffic;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
@@ -9,11 +11,19 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
 @Entity
-@Table(name = "traffic_log")
+// 모든 조회가 created_at 범위 조건을 포함하므로 created_at 인덱스 + 등치 조건인 http_status 복합 인덱스만 둠
+// uri/user_id 는 부분 일치(LIKE '%x%')라 인덱스를 탈 수 없고 is_admin 은 선택도가 낮아 인덱스를 두지 않음 (INSERT 비용 절감)
+// 파티션 구성 시 PK 는 (id, created_at) 으로 변경된다. (TrafficLogPartitionManager 참고)
+@Table(name = "traffic_log", indexes = {
+        @Index(name = "idx_traffic_log_created_at", columnList = "created_at"),
+        @Index(name = "idx_traffic_log_status_created_at", columnList = "http_status, created_at")
+})
 public class TrafficLogEntity {
 
+    // IDENTITY 전략은 Hibernate 배치 INSERT를 막으므로 애플리케이션에서 시간순 ID를 생성
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "traffic_log_id")
+    @GenericGenerator(name = "traffic_log_id", strategy = "org.example.traffic.TrafficLogIdGenerator")
     private Long id;
 
     @Column(name = "http_method", nullable = false, length = 10)
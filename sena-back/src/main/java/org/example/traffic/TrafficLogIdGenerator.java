@@ -0,0 +1,106 @@
+package org.example.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * traffic_log 전용 시간순 ID 생성기 (Snowflake 방식)
+ * - 41bit: 기준 시각(2025-01-01) 이후 경과 ms
+ * - 10bit: 노드 ID (TRAFFIC_LOG_NODE_ID 환경변수, 0 ~ 1023 - 서버마다 달라야 함)
+ *   서버가 여러 대(TRAFFIC_LOG_INSTANCES > 1)면 필수이며, 없거나 형식이 잘못되면 시작 시 실패한다. (랜덤 값은 충돌할 수 있음)
+ *   한 대로 운영할 때만 미지정 시 랜덤 값을 사용한다.
+ * - 12bit: 같은 ms 내 순번
+ * IDENTITY 와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치가 동작한다.
+ * 기존 AUTO_INCREMENT 값보다 항상 큰 값이 생성되어 기존 데이터와 충돌하지 않는다.
+ */
+@Slf4j
+public class TrafficLogIdGenerator implements IdentifierGenerator {
+
+    private static final long EPOCH = 1735657200000L; // 2025-01-01T00:00:00+09:00
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public TrafficLogIdGenerator() {
+        this.nodeId = resolveNodeId();
+        log.info("[TrafficLogIdGenerator] nodeId: {}", nodeId);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return nextId();
+    }
+
+    synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+
+        // 시계가 뒤로 간 경우 마지막 시각을 그대로 사용 (ID 역전 방지)
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안에서 순번 소진 → 다음 ms 까지 대기
+                while (timestamp <= lastTimestamp) {
+                    timestamp = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static long resolveNodeId() {
+        String env = System.getenv("TRAFFIC_LOG_NODE_ID");
+        if (env != null && !env.isBlank()) {
+            // 잘못된 값을 버리고 랜덤/하위 비트로 대체하면 다른 서버와 같은 ID 를 만들 수 있으므로 시작을 막음
+            long nodeId;
+            try {
+                nodeId = Long.parseLong(env.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("TRAFFIC_LOG_NODE_ID 형식 오류: " + env, e);
+            }
+            if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+                throw new IllegalStateException("TRAFFIC_LOG_NODE_ID 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + env);
+            }
+            return nodeId;
+        }
+
+        if (expectedInstances() > 1) {
+            throw new IllegalStateException("서버가 여러 대(TRAFFIC_LOG_INSTANCES)면 TRAFFIC_LOG_NODE_ID 를 서버마다 다르게 지정해야 합니다.");
+        }
+        log.warn("[TrafficLogIdGenerator] TRAFFIC_LOG_NODE_ID 미지정 - 단일 서버로 보고 랜덤 노드 ID 사용");
+        return ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+    }
+
+    // 함께 traffic_log 를 기록하는 서버 수 (TRAFFIC_LOG_INSTANCES 환경변수, 기본 1)
+    private static int expectedInstances() {
+        String env = System.getenv("TRAFFIC_LOG_INSTANCES");
+        if (env == null || env.isBlank()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(env.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("TRAFFIC_LOG_INSTANCES 형식 오류: " + env, e);
+        }
+    }
+}
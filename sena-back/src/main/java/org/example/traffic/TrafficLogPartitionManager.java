@@ -0,0 +1,248 @@
+package org.example.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.redis.ScheduledJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * traffic_log 일 단위 RANGE 파티션 관리
+ * - 파티션: p20250101 (created_at < '2025-01-02') ... + pmax (MAXVALUE)
+ * - 매일 future-days 만큼 앞으로의 파티션을 미리 만들고 (pmax 분할),
+ *   retention-days 가 지난 파티션은 DROP PARTITION 으로 제거한다. (대량 DELETE 없이 즉시 삭제)
+ * - 기존 비파티션 테이블은 convert-on-startup=true 일 때만 변환한다. (테이블 재작성이 필요하므로 점검 시간에 사용)
+ * - traffic.archive.enabled=true 이면 보관 기간 삭제는 TrafficLogArchiver 가 보관 후 수행한다.
+ * - 변환/파티션 작업은 Redis 잠금(traffic:partition:lock)을 잡은 서버 한 대만 실행한다.
+ */
+@Slf4j
+@Component
+public class TrafficLogPartitionManager {
+
+    private static final String TABLE = "traffic_log";
+    private static final String LOCK_KEY = "traffic:partition:lock";
+
+    // 이전 버전이 만들었지만 실제 조회(부분 일치 LIKE, 낮은 선택도)에 쓰이지 않는 인덱스 - INSERT 비용만 늘리므로 삭제
+    private static final List<String> OBSOLETE_INDEXES = List.of(
+            "idx_traffic_log_uri_created_at",
+            "idx_traffic_log_admin_created_at",
+            "idx_traffic_log_user_created_at");
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobLock jobLock;
+    private final boolean enabled;
+    private final boolean convertOnStartup;
+    private final int futureDays;
+    private final int retentionDays;
+    private final boolean archiveEnabled;
+
+    public TrafficLogPartitionManager(JdbcTemplate jdbcTemplate,
+                                      ScheduledJobLock jobLock,
+                                      @Value("${traffic.partition.enabled:true}") boolean enabled,
+                                      @Value("${traffic.partition.convert-on-startup:false}") boolean convertOnStartup,
+                                      @Value("${traffic.partition.future-days:7}") int futureDays,
+                                      @Value("${traffic.partition.retention-days:90}") int retentionDays,
+                                      @Value("${traffic.archive.enabled:false}") boolean archiveEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobLock = jobLock;
+        this.enabled = enabled;
+        this.convertOnStartup = convertOnStartup;
+        this.futureDays = futureDays;
+        this.retentionDays = retentionDays;
+        this.archiveEnabled = archiveEnabled;
+    }
+
+    // 테이블 변환은 오래 걸릴 수 있으므로 잠금은 6시간 유지
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        jobLock.runExclusively(LOCK_KEY, Duration.ofHours(6), () -> {
+            try {
+                dropObsoleteIndexes();
+                if (!enabled) {
+                    return;
+                }
+                if (!isPartitioned() && convertOnStartup) {
+                    convertToPartitionedTable();
+                }
+                maintainPartitions();
+            } catch (Exception e) {
+                log.error("[TrafficLogPartition] 시작 시 파티션 점검 실패", e);
+            }
+        });
+    }
+
+    // 매일 새벽 0시 10분 - 앞으로의 파티션 생성, 만료 파티션 삭제 (한 서버만)
+    @Scheduled(cron = "0 10 0 * * *")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        jobLock.runExclusively(LOCK_KEY, Duration.ofHours(1), this::maintainPartitions);
+    }
+
+    private void maintainPartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        createFuturePartitions();
+        // 보관 작업이 켜져 있으면 보관되지 않은 데이터가 삭제되지 않도록 여기서는 삭제하지 않음
+        if (retentionDays > 0 && !archiveEnabled) {
+            dropPartitionsBefore(LocalDate.now().minusDays(retentionDays));
+        }
+    }
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    // 만료 파티션 삭제로 원본 로그가 사라지는 기준 날짜 (이 날짜 이전은 DB 에 없음)
+    // 파티션 관리가 꺼져 있거나, 보관 작업이 삭제를 맡거나, 테이블이 아직 파티션 테이블이 아니면 삭제가 없으므로 null
+    public LocalDate retentionCutoff() {
+        if (!enabled || archiveEnabled || retentionDays <= 0 || !isPartitioned()) {
+            return null;
+        }
+        return LocalDate.now().minusDays(retentionDays);
+    }
+
+    // 상한값 기준 cutoff 이전 데이터만 담은 파티션 삭제 (파일 단위 삭제라 행 수와 무관)
+    public List<String> dropPartitionsBefore(LocalDate cutoff) {
+        LocalDateTime cutoffTime = cutoff.atStartOfDay();
+        List<String> expired = listPartitions().stream()
+                .filter(p -> p.upperBound != null && !p.upperBound.isAfter(cutoffTime))
+                .map(p -> p.name)
+                .collect(Collectors.toList());
+
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+            log.info("[TrafficLogPartition] 만료 파티션 삭제: {}", expired);
+        }
+        return expired;
+    }
+
+    // 해당 날짜 하나만 담은 일 파티션이 있으면 삭제 (없으면 false)
+    public boolean dropDayPartition(LocalDate day) {
+        if (!isPartitioned()) {
+            return false;
+        }
+        String name = "p" + day.format(NAME_FORMAT);
+        LocalDateTime expectedBound = day.plusDays(1).atStartOfDay();
+        boolean exists = listPartitions().stream()
+                .anyMatch(p -> p.name.equals(name) && expectedBound.equals(p.upperBound));
+        if (!exists) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+        log.info("[TrafficLogPartition] 보관 완료 파티션 삭제: {}", name);
+        return true;
+    }
+
+    private void dropObsoleteIndexes() {
+        List<String> existing = jdbcTemplate.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                String.class, TABLE);
+        for (String index : OBSOLETE_INDEXES) {
+            if (existing.contains(index)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX " + index);
+                log.info("[TrafficLogPartition] 사용하지 않는 인덱스 삭제: {}", index);
+            }
+        }
+    }
+
+    // pmax 를 나눠서 오늘 ~ future-days 까지의 일 파티션을 준비
+    private void createFuturePartitions() {
+        List<Partition> partitions = listPartitions();
+        LocalDateTime lastBound = partitions.stream()
+                .map(p -> p.upperBound)
+                .filter(b -> b != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDate.now().atStartOfDay());
+
+        LocalDate day = lastBound.toLocalDate();
+        LocalDate until = LocalDate.now().plusDays(futureDays);
+        List<String> definitions = new ArrayList<>();
+        while (!day.isAfter(until)) {
+            definitions.add(partitionDefinition(day));
+            day = day.plusDays(1);
+        }
+
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        // pmax 가 비어 있으므로 분할 비용은 거의 없음
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + String.join(", ", definitions) + ")");
+        log.info("[TrafficLogPartition] 파티션 생성: {} 개 (~ {})", definitions.size() - 1, until);
+    }
+
+    // 기존 테이블을 파티션 테이블로 변환 (오늘 이전 데이터는 하나의 이력 파티션으로 보관)
+    private void convertToPartitionedTable() {
+        LocalDate today = LocalDate.now();
+        log.warn("[TrafficLogPartition] traffic_log 파티션 변환 시작 - 테이블 크기에 따라 오래 걸릴 수 있음");
+
+        // 파티션 키(created_at)는 모든 유니크 키에 포함되어야 함
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+
+        List<String> definitions = new ArrayList<>();
+        definitions.add("PARTITION p_before_" + today.format(NAME_FORMAT)
+                + " VALUES LESS THAN ('" + today.atStartOfDay().format(BOUND_FORMAT) + "')");
+        definitions.add(partitionDefinition(today));
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(created_at) ("
+                + String.join(", ", definitions) + ")");
+        log.info("[TrafficLogPartition] traffic_log 파티션 변환 완료");
+    }
+
+    private String partitionDefinition(LocalDate day) {
+        return "PARTITION p" + day.format(NAME_FORMAT)
+                + " VALUES LESS THAN ('" + day.plusDays(1).atStartOfDay().format(BOUND_FORMAT) + "')";
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))),
+                TABLE);
+    }
+
+    // PARTITION_DESCRIPTION 예: '2025-01-02 00:00:00' / MAXVALUE
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", "").trim(), BOUND_FORMAT);
+    }
+
+    private static class Partition {
+        private final String name;
+        private final LocalDateTime upperBound;
+
+        private Partition(String name, LocalDateTime upperBound) {
+            this.name = name;
+            this.upperBound = upperBound;
+        }
+    }
+}
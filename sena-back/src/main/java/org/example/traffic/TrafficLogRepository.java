@@ -34,4 +34,60 @@ public interface TrafficLogRepository extends JpaRepository<TrafficLogEntity, Lo
             @Param("end") LocalDateTime end,
             @Param("topN") int topN
     );
+
+    // 통계 합계를 DB에서 한 번에 계산 (행을 애플리케이션으로 가져오지 않음)
+    // 정상 요청: HTTP 200 + 비즈니스 오류 코드 없음 / 2xx 예외: 그 외 2xx
+    @Query(value =
+            "SELECT " +
+                    "    COUNT(*) AS totalCount, " +
+                    "    COALESCE(SUM(CASE WHEN http_status = 200 AND (business_error_code IS NULL OR TRIM(business_error_code) = '') THEN 1 ELSE 0 END), 0) AS successCount, " +
+                    "    COALESCE(SUM(CASE WHEN http_status BETWEEN 200 AND 299 " +
+                    "                      AND NOT (http_status = 200 AND (business_error_code IS NULL OR TRIM(business_error_code) = '')) THEN 1 ELSE 0 END), 0) AS exception2xxCount, " +
+                    "    COALESCE(SUM(CASE WHEN http_status BETWEEN 400 AND 499 THEN 1 ELSE 0 END), 0) AS clientErrorCount, " +
+                    "    COALESCE(SUM(CASE WHEN http_status BETWEEN 500 AND 599 THEN 1 ELSE 0 END), 0) AS serverErrorCount, " +
+                    "    COALESCE(SUM(CASE WHEN http_status NOT BETWEEN 200 AND 299 AND http_status NOT BETWEEN 400 AND 599 THEN 1 ELSE 0 END), 0) AS otherStatusCount, " +
+                    "    COALESCE(SUM(response_time_ms), 0) AS responseTimeSum, " +
+                    "    COALESCE(SUM(db_query_count), 0) AS dbQuerySum, " +
+                    "    COALESCE(SUM(CASE WHEN is_admin = 1 THEN 1 ELSE 0 END), 0) AS adminCount " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= :start AND created_at < :end " +
+                    "AND (:uri IS NULL OR uri LIKE CONCAT('%', :uri, '%'))"
+            , nativeQuery = true)
+    TrafficStatsSummaryProjection findStatsSummary(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("uri") String uri
+    );
+
+    // HTTP 메서드별 요청 수
+    @Query(value =
+            "SELECT http_method AS groupKey, COUNT(*) AS count " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= :start AND created_at < :end " +
+                    "AND (:uri IS NULL OR uri LIKE CONCAT('%', :uri, '%')) " +
+                    "GROUP BY http_method"
+            , nativeQuery = true)
+    List<TrafficGroupCountProjection> findMethodCounts(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("uri") String uri
+    );
+
+    // 비즈니스 오류 코드 TOP N (빈 값 제외)
+    @Query(value =
+            "SELECT business_error_code AS groupKey, COUNT(*) AS count " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= :start AND created_at < :end " +
+                    "AND (:uri IS NULL OR uri LIKE CONCAT('%', :uri, '%')) " +
+                    "AND business_error_code IS NOT NULL AND TRIM(business_error_code) <> '' " +
+                    "GROUP BY business_error_code " +
+                    "ORDER BY count DESC " +
+                    "LIMIT :topN"
+            , nativeQuery = true)
+    List<TrafficGroupCountProjection> findBusinessErrorTopN(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("uri") String uri,
+            @Param("topN") int topN
+    );
 }
@@ -7,11 +7,16 @@ import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.common.SeekCursor;
+import org.example.common.dto.CursorPageResponseDto;
 import org.example.entity.BlockedIpEntity;
 import org.example.entity.QBlockedIpEntity;
+import org.example.redis.BlockedIpService;
+import org.example.redis.LocalBlockedIpCache;
 import org.example.redis.RedisIpRateLimitService;
 import org.example.repository.BlockedIpRepository;
 import org.example.traffic.dto.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +27,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,18 +39,248 @@ public class TrafficLogService {
     private final TrafficLogRepository trafficLogRepository;
     private final BlockedIpRepository blockedIpRepository;
     private final RedisIpRateLimitService redisIpRateLimitService;
+    private final LocalBlockedIpCache localBlockedIpCache;
+    private final BlockedIpService blockedIpService;
+    private final TrafficRollupService trafficRollupService;
+    private final TrafficLogArchiveStore trafficLogArchiveStore;
 
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    // 로그 목록 전체 건수 캐시 유지 시간
+    @Value("${traffic.log.count-cache-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    private static final int MAX_COUNT_CACHE_SIZE = 1000;
+
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
     public void save(TrafficLogEntity entity) {
         trafficLogRepository.save(entity);
     }
 
+    // TrafficLogWriter 에서 모아둔 로그를 JDBC 배치로 저장
+    // (hibernate.jdbc.batch_size 단위로 flush 해서 영속성 컨텍스트가 커지지 않도록 함)
+    @Transactional
+    public void saveAll(List<TrafficLogEntity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            em.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
     public Page<TrafficLogResponseDto> getTrafficLogs(TrafficLogRequestDto dto) {
         QTrafficLogEntity q = QTrafficLogEntity.trafficLogEntity;
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = buildLogCondition(dto);
+
+        Pageable pageable = PageRequest.of(dto.getPage(), dto.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        List<TrafficLogEntity> result = queryFactory.selectFrom(q)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(q.createdAt.desc(), q.id.desc())
+                .fetch();
+
+        long totalCount = countLogs(builder);
+
+        // 조회 기간에 보관(archive)된 날짜가 있으면 DB 결과 뒤에 보관 파일 결과를 이어 붙임
+        // (보관된 날짜는 항상 DB 에 남은 로그보다 오래되었으므로 최신순 정렬이 유지됨)
+        List<LocalDate> archivedDays = findArchivedDays(dto);
+        if (!archivedDays.isEmpty()) {
+            result = new ArrayList<>(result);
+            long archiveOffset = Math.max(0, pageable.getOffset() - totalCount);
+            totalCount += readArchivedLogs(archivedDays, buildArchiveFilter(dto), archiveOffset,
+                    pageable.getPageSize() - result.size(), result);
+        }
+
+        List<TrafficLogResponseDto> content = result.stream()
+                .map(this::toResponseDto)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, totalCount);
+    }
+
+    // 조회 기간 중 보관 파일로 옮겨진 날짜 (기간을 지정한 조회만 보관 파일을 읽음)
+    private List<LocalDate> findArchivedDays(TrafficLogRequestDto dto) {
+        if (dto.getStartDate() == null || dto.getEndDate() == null) {
+            return Collections.emptyList();
+        }
+        LocalDate start = LocalDate.parse(dto.getStartDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate end = LocalDate.parse(dto.getEndDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return trafficLogArchiveStore.getArchivedDays(start, end);
+    }
+
+    // 보관 파일에서 조건에 맞는 로그를 최신순으로 읽어 skip 이후 limit 건을 out 에 추가하고, 조건에 맞는 전체 건수를 반환
+    // (out 에는 이미 DB 결과가 들어 있으므로 limit 은 out 크기가 아닌 이번에 추가한 건수와 비교)
+    private long readArchivedLogs(List<LocalDate> days, Predicate<TrafficLogEntity> filter,
+                                  long skip, int limit, List<TrafficLogEntity> out) {
+        int[] added = {0};
+
+        // 필터가 없으면 건수는 manifest 로 계산하고, 필요한 행만 읽은 뒤 중단
+        if (filter == null) {
+            long total = 0;
+            long toSkip = skip;
+            for (LocalDate day : days) {
+                long rows = trafficLogArchiveStore.getRowCount(day);
+                total += rows;
+                if (added[0] >= limit || toSkip >= rows) {
+                    toSkip -= Math.min(toSkip, rows);
+                    continue;
+                }
+                long[] skipped = {0};
+                long daySkip = toSkip;
+                trafficLogArchiveStore.scan(day, entity -> {
+                    if (skipped[0]++ < daySkip) {
+                        return true;
+                    }
+                    out.add(entity);
+                    return ++added[0] < limit;
+                });
+                toSkip = 0;
+            }
+            return total;
+        }
+
+        long[] matched = {0};
+        for (LocalDate day : days) {
+            trafficLogArchiveStore.scan(day, entity -> {
+                if (filter.test(entity)) {
+                    if (matched[0] >= skip && added[0] < limit) {
+                        out.add(entity);
+                        added[0]++;
+                    }
+                    matched[0]++;
+                }
+                return true;
+            });
+        }
+        return matched[0];
+    }
+
+    // buildLogCondition 과 같은 조건을 보관 파일 행에 적용 (날짜 조건은 파일 단위로 처리되므로 제외, 조건이 없으면 null)
+    private Predicate<TrafficLogEntity> buildArchiveFilter(TrafficLogRequestDto dto) {
+        List<Predicate<TrafficLogEntity>> filters = new ArrayList<>();
+
+        if (dto.getUri() != null && !dto.getUri().isEmpty()) {
+            String uri = dto.getUri().toLowerCase();
+            filters.add(e -> e.getUri() != null && e.getUri().toLowerCase().contains(uri));
+        }
+
+        if (dto.getHttpMethod() != null && !dto.getHttpMethod().equalsIgnoreCase("ALL")) {
+            filters.add(e -> dto.getHttpMethod().equalsIgnoreCase(e.getHttpMethod()));
+        }
+
+        if (dto.getStatusCode() != null && !dto.getStatusCode().equalsIgnoreCase("ALL")) {
+            switch (dto.getStatusCode()) {
+                case "2xx": filters.add(e -> e.getHttpStatus() >= 200 && e.getHttpStatus() <= 299); break;
+                case "4xx": filters.add(e -> e.getHttpStatus() >= 400 && e.getHttpStatus() <= 499); break;
+                case "5xx": filters.add(e -> e.getHttpStatus() >= 500 && e.getHttpStatus() <= 599); break;
+            }
+        }
+
+        if (dto.getIsAdmin() != null && !dto.getIsAdmin().equalsIgnoreCase("ALL")) {
+            boolean isAdmin = Boolean.parseBoolean(dto.getIsAdmin());
+            filters.add(e -> e.isAdmin() == isAdmin);
+        }
+
+        if (dto.getErrorStatus() != null && !dto.getErrorStatus().equalsIgnoreCase("ALL")) {
+            if (dto.getErrorStatus().equalsIgnoreCase("NORMAL")) {
+                filters.add(e -> e.getHttpStatus() == 200 && !TrafficStatsAggregate.hasBusinessError(e.getBusinessErrorCode()));
+            } else if (dto.getErrorStatus().equalsIgnoreCase("ERROR")) {
+                filters.add(e -> e.getHttpStatus() != 200 || TrafficStatsAggregate.hasBusinessError(e.getBusinessErrorCode()));
+            } else {
+                filters.add(e -> dto.getErrorStatus().equals(e.getBusinessErrorCode()));
+            }
+        }
+
+        if (dto.getSearchWord() != null && !dto.getSearchWord().isEmpty()) {
+            String searchWord = dto.getSearchWord().toLowerCase();
+            filters.add(e -> e.getUserId() != null && e.getUserId().toLowerCase().contains(searchWord));
+        }
+
+        return filters.stream().reduce(Predicate::and).orElse(null);
+    }
+
+    // 커서(키셋) 기반 로그 조회 - OFFSET 없이 (createdAt, id) 기준으로 다음 페이지를 바로 탐색
+    public CursorPageResponseDto<TrafficLogResponseDto> getTrafficLogsByCursor(TrafficLogRequestDto dto) {
+        QTrafficLogEntity q = QTrafficLogEntity.trafficLogEntity;
+        BooleanBuilder builder = buildLogCondition(dto);
+        int size = dto.getSize() > 0 ? Math.min(dto.getSize(), MAX_CURSOR_PAGE_SIZE) : 30;
+
+        // 이전 페이지 마지막 행보다 뒤(오래된) 행만 조회
+        BooleanBuilder seekCondition = new BooleanBuilder(builder);
+        SeekCursor cursor = SeekCursor.decode(dto.getCursor());
+        if (cursor != null) {
+            seekCondition.and(q.createdAt.lt(cursor.getTime())
+                    .or(q.createdAt.eq(cursor.getTime()).and(q.id.lt(cursor.getId()))));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<TrafficLogEntity> result = queryFactory.selectFrom(q)
+                .where(seekCondition)
+                .orderBy(q.createdAt.desc(), q.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TrafficLogEntity last = result.get(result.size() - 1);
+            nextCursor = new SeekCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
+        return CursorPageResponseDto.<TrafficLogResponseDto>builder()
+                .content(result.stream().map(this::toResponseDto).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(dto.isIncludeTotal() ? countLogs(builder) : null)
+                .build();
+    }
+
+    // 필터 조건별 전체 건수 - 같은 조건으로 페이지를 넘길 때마다 COUNT 가 다시 실행되지 않도록 잠시 캐시
+    private long countLogs(BooleanBuilder builder) {
+        String key = String.valueOf(builder.getValue());
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = countCache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        QTrafficLogEntity q = QTrafficLogEntity.trafficLogEntity;
+        Long total = queryFactory.select(q.count())
+                .from(q)
+                .where(builder)
+                .fetchOne();
+        long count = total != null ? total : 0L;
+
+        // 조건 조합이 계속 늘어나지 않도록 일정 개수를 넘으면 비움
+        if (countCache.size() >= MAX_COUNT_CACHE_SIZE) {
+            countCache.clear();
+        }
+        countCache.put(key, new CachedCount(count, now + countCacheTtlSeconds * 1000));
+        return count;
+    }
+
+    // 로그 목록 검색 조건 (페이지 방식과 커서 방식에서 공통 사용)
+    private BooleanBuilder buildLogCondition(TrafficLogRequestDto dto) {
+        QTrafficLogEntity q = QTrafficLogEntity.trafficLogEntity;
+        BooleanBuilder builder = new BooleanBuilder();
         // uri 포함 검색
         if (dto.getUri() != null && !dto.getUri().isEmpty()) {
             builder.and(q.uri.contains(dto.getUri()));
@@ -95,23 +332,11 @@ public class TrafficLogService {
             builder.and(q.userId.contains(dto.getSearchWord()));
         }
 
-        Pageable pageable = PageRequest.of(dto.getPage(), dto.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        List<TrafficLogEntity> result = queryFactory.selectFrom(q)
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(q.createdAt.desc())
-                .fetch();
-
-        Long total = queryFactory.select(q.count())
-                .from(q)
-                .where(builder)
-                .fetchOne();
-
-        long totalCount = total != null ? total : 0L;
+        return builder;
+    }
 
-        List<TrafficLogResponseDto> content = result.stream().map(entity -> TrafficLogResponseDto.builder()
+    private TrafficLogResponseDto toResponseDto(TrafficLogEntity entity) {
+        return TrafficLogResponseDto.builder()
                 .id(entity.getId())
                 .httpMethod(entity.getHttpMethod())
                 .uri(entity.getUri())
@@ -123,9 +348,17 @@ public class TrafficLogService {
                 .createdAt(entity.getCreatedAt())
                 .businessErrorCode(entity.getBusinessErrorCode())
                 .clientIp(maskIp(entity.getClientIp()))
-                .build()).collect(Collectors.toList());
+                .build();
+    }
 
-        return new PageImpl<>(content, pageable, totalCount);
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
     }
 
     private String maskIp(String ip) {
@@ -137,11 +370,68 @@ public class TrafficLogService {
     }
 
     public TrafficStatsResponseDto getStatistics(TrafficStatsRequestDto dto) {
+        LocalDate startDate = LocalDate.parse(dto.getStartDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate endDate = LocalDate.parse(dto.getEndDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        // 집계 방식 선택: ROLLUP(기본) - 사전 집계 테이블, SQL - 원본 로그를 DB에서 집계, RAW - 원본 로그를 메모리로 읽어 집계
+        TrafficStatsAggregate aggregate;
+        if ("RAW".equalsIgnoreCase(dto.getMode())) {
+            aggregate = aggregateFromRawLogs(startDate, endDate, dto.getUri());
+        } else if ("SQL".equalsIgnoreCase(dto.getMode())) {
+            aggregate = aggregateWithSql(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), dto.getUri());
+        } else {
+            aggregate = trafficRollupService.aggregate(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), dto.getUri());
+        }
+
+        return toStatsResponse(aggregate);
+    }
+
+    // 원본 로그를 DB의 GROUP BY / CASE 집계로 계산 (엔티티를 읽지 않고 결과 몇 행만 전달받음)
+    TrafficStatsAggregate aggregateWithSql(LocalDateTime start, LocalDateTime endExclusive, String uri) {
+        String uriFilter = (uri != null && !uri.isBlank()) ? uri : null;
+
+        TrafficStatsSummaryProjection summary = trafficLogRepository.findStatsSummary(start, endExclusive, uriFilter);
+
+        Map<String, Long> statusGroupMap = new HashMap<>();
+        putIfPositive(statusGroupMap, TrafficStatsAggregate.SUCCESS_2XX, summary.getSuccessCount());
+        putIfPositive(statusGroupMap, TrafficStatsAggregate.EXCEPTION_2XX, summary.getException2xxCount());
+        putIfPositive(statusGroupMap, TrafficStatsAggregate.CLIENT_ERROR, summary.getClientErrorCount());
+        putIfPositive(statusGroupMap, TrafficStatsAggregate.SERVER_ERROR, summary.getServerErrorCount());
+        putIfPositive(statusGroupMap, TrafficStatsAggregate.OTHER, summary.getOtherStatusCount());
+
+        Map<String, Long> methodMap = new HashMap<>();
+        trafficLogRepository.findMethodCounts(start, endExclusive, uriFilter)
+                .forEach(p -> methodMap.put(p.getGroupKey(), p.getCount()));
+
+        Map<String, Long> errorTopN = new LinkedHashMap<>();
+        trafficLogRepository.findBusinessErrorTopN(start, endExclusive, uriFilter, 5)
+                .forEach(p -> errorTopN.put(p.getGroupKey(), p.getCount()));
+
+        return TrafficStatsAggregate.builder()
+                .totalCount(summary.getTotalCount())
+                .methodCountMap(methodMap)
+                .statusCodeGroupMap(statusGroupMap)
+                .businessErrorTopN(errorTopN)
+                .responseTimeSum(summary.getResponseTimeSum())
+                .dbQuerySum(summary.getDbQuerySum())
+                .adminCount(summary.getAdminCount())
+                .successCount(summary.getSuccessCount())
+                .build();
+    }
+
+    private static void putIfPositive(Map<String, Long> map, String key, Long value) {
+        if (value != null && value > 0) {
+            map.put(key, value);
+        }
+    }
+
+    // 원본 로그를 모두 조회해서 메모리에서 집계 (기간이 길면 느리고 메모리 사용량이 큼)
+    TrafficStatsAggregate aggregateFromRawLogs(LocalDate startDate, LocalDate endDate, String uri) {
         QTrafficLogEntity q = QTrafficLogEntity.trafficLogEntity;
 
         // 시작일, 종료일을 LocalDateTime으로 변환 (시작은 00:00:00, 종료는 23:59:59.999)
-        LocalDateTime start = LocalDate.parse(dto.getStartDate(), DateTimeFormatter.ofPattern("yyyyMMdd")).atStartOfDay();
-        LocalDateTime end = LocalDate.parse(dto.getEndDate(), DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(LocalTime.MAX);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.atTime(LocalTime.MAX);
 
         // 조건 빌더 생성
         BooleanBuilder builder = new BooleanBuilder();
@@ -150,8 +440,8 @@ public class TrafficLogService {
         builder.and(q.createdAt.between(start, end));
 
         // URI가 null 아니고 빈 문자열 아닐 경우, 포함 검색 조건 추가
-        if (dto.getUri() != null && !dto.getUri().isBlank()) {
-            builder.and(q.uri.contains(dto.getUri()));
+        if (uri != null && !uri.isBlank()) {
+            builder.and(q.uri.contains(uri));
         }
 
         // 쿼리DSL을 사용해 조건에 맞는 엔티티 리스트 조회
@@ -159,45 +449,20 @@ public class TrafficLogService {
                 .where(builder)
                 .fetch();
 
-        long total = logs.size(); // 전체 로그 개수
-
         // HTTP 메서드별 요청 수 집계
         Map<String, Long> methodMap = logs.stream()
                 .collect(Collectors.groupingBy(TrafficLogEntity::getHttpMethod, Collectors.counting()));
 
         // 상태 코드 그룹별 요청 수 집계 (2xx 정상, 2xx 예외, 4xx, 5xx, 기타)
         Map<String, Long> statusGroupMap = logs.stream()
-                .collect(Collectors.groupingBy(log -> {
-                    int status = log.getHttpStatus();
-                    boolean hasBizError = log.getBusinessErrorCode() != null && !log.getBusinessErrorCode().trim().isEmpty();
-
-                    if (status >= 200 && status < 300) {
-                        if (status == 200 && !hasBizError) return "2xx_success";
-                        else return "2xx_exception";
-                    } else if (status >= 400 && status < 500) return "4xx";
-                    else if (status >= 500 && status < 600) return "5xx";
-                    else return "other";
-                }, Collectors.counting()));
-
-        // 평균 응답 시간(ms), 소수점 둘째 자리까지 반올림
-        double avgResponse = logs.stream()
-                .mapToInt(TrafficLogEntity::getResponseTimeMs)
-                .average()
-                .orElse(0.0);
-        avgResponse = Math.round(avgResponse * 100.0) / 100.0;
-
-        // 평균 DB 쿼리 실행 횟수, 소수점 둘째 자리까지 반올림
-        double avgDbQuery = logs.stream()
-                .mapToInt(TrafficLogEntity::getDbQueryCount)
-                .average()
-                .orElse(0.0);
-        avgDbQuery = Math.round(avgDbQuery * 100.0) / 100.0;
+                .collect(Collectors.groupingBy(
+                        log -> TrafficStatsAggregate.statusGroupOf(log.getHttpStatus(), log.getBusinessErrorCode()),
+                        Collectors.counting()));
 
         // 비즈니스 오류 코드 TOP 5 집계 (빈 값 제외)
         Map<String, Long> errorTopN = logs.stream()
                 .map(TrafficLogEntity::getBusinessErrorCode)
-                .filter(Objects::nonNull)
-                .filter(code -> !code.trim().isEmpty())
+                .filter(TrafficStatsAggregate::hasBusinessError)
                 .collect(Collectors.groupingBy(e -> e, Collectors.counting()))
                 .entrySet().stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
@@ -209,16 +474,29 @@ public class TrafficLogService {
                         LinkedHashMap::new
                 ));
 
-        // 관리자 요청 수
-        long adminCount = logs.stream().filter(TrafficLogEntity::isAdmin).count();
+        return TrafficStatsAggregate.builder()
+                .totalCount(logs.size())
+                .methodCountMap(methodMap)
+                .statusCodeGroupMap(statusGroupMap)
+                .businessErrorTopN(errorTopN)
+                .responseTimeSum(logs.stream().mapToLong(TrafficLogEntity::getResponseTimeMs).sum())
+                .dbQuerySum(logs.stream().mapToLong(TrafficLogEntity::getDbQueryCount).sum())
+                .adminCount(logs.stream().filter(TrafficLogEntity::isAdmin).count())
+                .successCount(statusGroupMap.getOrDefault(TrafficStatsAggregate.SUCCESS_2XX, 0L))
+                .build();
+    }
 
-        // 정상 요청 수 (HTTP 200, 비즈니스 오류 코드 없음)
-        long successCount = logs.stream()
-                .filter(log -> log.getHttpStatus() == 200 &&
-                        (log.getBusinessErrorCode() == null || log.getBusinessErrorCode().trim().isEmpty()))
-                .count();
+    // 집계 결과 → 응답 DTO (평균, 비율 계산)
+    private TrafficStatsResponseDto toStatsResponse(TrafficStatsAggregate aggregate) {
+        long total = aggregate.getTotalCount(); // 전체 로그 개수
 
-        long failureCount = total - successCount; // 실패 요청 수
+        // 평균 응답 시간(ms), 평균 DB 쿼리 실행 횟수 - 소수점 둘째 자리까지 반올림
+        double avgResponse = total == 0 ? 0.0 : Math.round((double) aggregate.getResponseTimeSum() / total * 100.0) / 100.0;
+        double avgDbQuery = total == 0 ? 0.0 : Math.round((double) aggregate.getDbQuerySum() / total * 100.0) / 100.0;
+
+        long adminCount = aggregate.getAdminCount();          // 관리자 요청 수
+        long successCount = aggregate.getSuccessCount();      // 정상 요청 수 (HTTP 200, 비즈니스 오류 코드 없음)
+        long failureCount = total - successCount;             // 실패 요청 수
 
         // 요청 비율 계산 (총 개수가 0일 경우 0으로 처리)
         double adminRate = total == 0 ? 0 : Math.round((adminCount * 100.0 / total) * 100.0) / 100.0;
@@ -229,11 +507,11 @@ public class TrafficLogService {
         // 결과 DTO 생성 및 반환
         return TrafficStatsResponseDto.builder()
                 .totalRequestCount(total)
-                .methodCountMap(methodMap)
-                .statusCodeGroupMap(statusGroupMap)
+                .methodCountMap(aggregate.getMethodCountMap())
+                .statusCodeGroupMap(aggregate.getStatusCodeGroupMap())
                 .averageResponseTimeMs(avgResponse)
                 .averageDbQueryCount(avgDbQuery)
-                .businessErrorTopN(errorTopN)
+                .businessErrorTopN(aggregate.getBusinessErrorTopN())
                 .adminRequestRate(adminRate)
                 .userRequestRate(userRate)
                 .successRate(successRate)
@@ -241,6 +519,13 @@ public class TrafficLogService {
                 .build();
     }
 
+    // 지난 기간의 사전 집계 버킷을 원본 로그로부터 다시 계산
+    public void rebuildRollups(TrafficStatsRequestDto dto) {
+        LocalDate startDate = LocalDate.parse(dto.getStartDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalDate endDate = LocalDate.parse(dto.getEndDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
+        trafficRollupService.rebuild(startDate, endDate);
+    }
+
     public List<TopUriStatsDto> getTopUriStats(TopUriStatsRequestDto requestDto) {
         LocalDateTime start = LocalDate.parse(requestDto.getStartDate(), DateTimeFormatter.ofPattern("yyyyMMdd")).atStartOfDay();
         LocalDateTime end = LocalDate.parse(requestDto.getEndDate(), DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(LocalTime.MAX);
@@ -361,8 +646,14 @@ public class TrafficLogService {
         // 3. Redis에서 해당 IP 차단 키 제거
         redisIpRateLimitService.delete("blocked_ip:" + ip);
 
-        // 4. 요청 카운트 키도 초기화
-        redisIpRateLimitService.delete("req_count:" + ip);
+        // 4. 요청 카운트 키도 초기화 (경로별 정책 카운터 포함)
+        redisIpRateLimitService.deleteCounters(ip);
+
+        // 5. 모든 서버의 로컬 차단 캐시에서 제거
+        localBlockedIpCache.unblock(ip);
+
+        // 6. 다음 차단이 다시 기록되도록 차단 기록 중복 제거 정보 초기화
+        blockedIpService.forget(ip);
     }
 
 }
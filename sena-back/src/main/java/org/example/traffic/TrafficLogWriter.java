@@ -0,0 +1,182 @@
+package org.example.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트래픽 로그 비동기 배치 저장기
+ * - 요청 스레드는 큐에 적재만 하고 바로 반환한다. (DB 커넥션 미사용)
+ * - 백그라운드 스레드가 batch-size 만큼 모이거나 flush-interval 이 지나면 한 번에 저장한다.
+ * - 큐가 가득 찬 경우 overflow-policy 에 따라 처리한다.
+ */
+@Slf4j
+@Component
+public class TrafficLogWriter {
+
+    // 큐가 가득 찼을 때의 처리 정책
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // 가장 오래된 로그를 버리고 새 로그를 적재
+        DROP_NEWEST,  // 새 로그를 버림
+        BLOCK         // block-timeout 동안 빈 자리가 생기기를 기다린 뒤, 그래도 없으면 버림
+    }
+
+    private final TrafficLogService trafficLogService;
+    private final TrafficRollupService trafficRollupService;
+    private final BlockingQueue<TrafficLogEntity> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long blockTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+
+    // 버려진 로그 수 (모니터링용)
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TrafficLogWriter(TrafficLogService trafficLogService,
+                            TrafficRollupService trafficRollupService,
+                            @Value("${traffic.log.queue-capacity:10000}") int queueCapacity,
+                            @Value("${traffic.log.batch-size:500}") int batchSize,
+                            @Value("${traffic.log.flush-interval-ms:1000}") long flushIntervalMs,
+                            @Value("${traffic.log.block-timeout-ms:50}") long blockTimeoutMs,
+                            @Value("${traffic.log.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy) {
+        this.trafficLogService = trafficLogService;
+        this.trafficRollupService = trafficRollupService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "traffic-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[TrafficLogWriter] 시작 - batchSize: {}, flushIntervalMs: {}, policy: {}", batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    // 요청 스레드에서 호출 - 큐 적재만 수행
+    public void enqueue(TrafficLogEntity entity) {
+        if (queue.offer(entity)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                // 가장 오래된 로그를 하나 버리고 재시도 (경합으로 실패하면 새 로그를 버림)
+                if (queue.poll() != null) {
+                    droppedCount.incrementAndGet();
+                }
+                if (!queue.offer(entity)) {
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case BLOCK:
+                try {
+                    if (!queue.offer(entity, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        droppedCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                droppedCount.incrementAndGet();
+                break;
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<TrafficLogEntity> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.currentTimeMillis();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitMs = Math.max(1, flushIntervalMs - (System.currentTimeMillis() - lastFlush));
+                TrafficLogEntity entity = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (entity != null) {
+                    batch.add(entity);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                // 크기 기준 또는 시간 기준으로 flush
+                boolean sizeReached = batch.size() >= batchSize;
+                boolean timeReached = System.currentTimeMillis() - lastFlush >= flushIntervalMs;
+                if (!batch.isEmpty() && (sizeReached || timeReached)) {
+                    flush(batch);
+                    lastFlush = System.currentTimeMillis();
+                } else if (batch.isEmpty() && timeReached) {
+                    lastFlush = System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호 - 남은 로그는 아래에서 마저 저장
+                running = false;
+            }
+        }
+
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<TrafficLogEntity> batch) {
+        try {
+            trafficLogService.saveAll(batch);
+        } catch (Exception e) {
+            // 저장 실패 시 해당 배치는 버림 (요청 처리에 영향을 주지 않기 위함)
+            log.error("[TrafficLogWriter] 트래픽 로그 배치 저장 실패 - {}건 유실", batch.size(), e);
+            droppedCount.addAndGet(batch.size());
+            batch.clear();
+            QueryCountHolder.reset();
+            return;
+        }
+
+        try {
+            // 저장된 로그를 시간 단위 사전 집계에 반영
+            trafficRollupService.accumulate(batch);
+        } catch (Exception e) {
+            // 집계 실패는 원본 로그에 영향 없음 - 필요 시 /admin/traffic/rollups/rebuild 로 보정
+            log.error("[TrafficLogWriter] 트래픽 사전 집계 반영 실패 - {}건", batch.size(), e);
+        } finally {
+            batch.clear();
+            // 쓰기 스레드에서 누적되는 쿼리 카운트 초기화
+            QueryCountHolder.reset();
+        }
+    }
+
+    // 애플리케이션 종료 시 큐에 남은 로그를 모두 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 저장 도중 인터럽트로 JDBC 작업이 끊기지 않도록, 플래그만 내리고 남은 로그를 비울 때까지 대기
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        log.info("[TrafficLogWriter] 종료 - 남은 로그: {}, 유실된 로그: {}", queue.size(), droppedCount.get());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.traffic;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트래픽 로그 사전 집계 테이블 (시간 단위 버킷)
+ * - (granularity, bucket_start, uri, http_method) 조합당 한 행
+ * - TrafficRollupService 가 로그 저장 시점에 증분(upsert) 반영한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "traffic_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_traffic_rollup_bucket",
+                columnNames = {"granularity", "bucket_start", "uri", "http_method"}))
+public class TrafficRollupEntity {
+
+    public enum Granularity {
+        MINUTE, // 이전 버전 데이터 - 더 이상 기록하지 않음 (TrafficRollupService 가 정리)
+        HOUR
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "uri", nullable = false)
+    private String uri;
+
+    @Column(name = "http_method", nullable = false, length = 10)
+    private String httpMethod;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "success_count", nullable = false)       // 200 + 비즈니스 오류 코드 없음
+    private long successCount;
+
+    @Column(name = "exception_2xx_count", nullable = false) // 2xx 이지만 정상이 아닌 요청
+    private long exception2xxCount;
+
+    @Column(name = "client_error_count", nullable = false)  // 4xx
+    private long clientErrorCount;
+
+    @Column(name = "server_error_count", nullable = false)  // 5xx
+    private long serverErrorCount;
+
+    @Column(name = "other_status_count", nullable = false)  // 그 외 상태 코드
+    private long otherStatusCount;
+
+    @Column(name = "response_time_sum", nullable = false)
+    private long responseTimeSum;
+
+    @Column(name = "response_time_max", nullable = false)
+    private int responseTimeMax;
+
+    @Column(name = "db_query_sum", nullable = false)
+    private long dbQuerySum;
+
+    @Column(name = "admin_count", nullable = false)
+    private long adminCount;
+}
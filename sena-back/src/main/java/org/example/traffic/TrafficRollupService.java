@@ -0,0 +1,315 @@
+package org.example.traffic;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.customException.InvalidRollupRangeException;
+import org.example.traffic.TrafficRollupEntity.Granularity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 트래픽 로그 사전 집계(rollup) 서비스
+ * - accumulate: 저장되는 로그 배치를 시간 버킷으로 접어서 upsert (증분 반영)
+ * - rebuild: 기존 원본 로그로부터 특정 기간의 버킷을 다시 계산 (최초 적재/보정용)
+ *   DB 에 원본이 남아 있는 기간만 허용 - 보관(archive)되거나 파티션 삭제된 날짜의 버킷은 다시 만들 수 없으므로 지우지 않는다.
+ * - aggregate: 통계 조회 - 원본 행 수가 아닌 버킷 수에 비례하는 비용으로 계산
+ *   통계 조회 기간은 항상 일 단위이므로 시간 버킷만 기록한다. (분 단위 버킷은 조회에 쓰이지 않아 기록하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrafficRollupService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+    private final TrafficLogPartitionManager partitionManager;
+
+    // 원본 로그가 DB 에서 빠지는 기준 (TrafficLogArchiver 와 같은 설정)
+    @Value("${traffic.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${traffic.archive.horizon-days:30}")
+    private int archiveHorizonDays;
+
+    private static final String UPSERT_ROLLUP_SQL =
+            "INSERT INTO traffic_rollup (granularity, bucket_start, uri, http_method, request_count, success_count, " +
+                    "exception_2xx_count, client_error_count, server_error_count, other_status_count, " +
+                    "response_time_sum, response_time_max, db_query_sum, admin_count) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "request_count = request_count + VALUES(request_count), " +
+                    "success_count = success_count + VALUES(success_count), " +
+                    "exception_2xx_count = exception_2xx_count + VALUES(exception_2xx_count), " +
+                    "client_error_count = client_error_count + VALUES(client_error_count), " +
+                    "server_error_count = server_error_count + VALUES(server_error_count), " +
+                    "other_status_count = other_status_count + VALUES(other_status_count), " +
+                    "response_time_sum = response_time_sum + VALUES(response_time_sum), " +
+                    "response_time_max = GREATEST(response_time_max, VALUES(response_time_max)), " +
+                    "db_query_sum = db_query_sum + VALUES(db_query_sum), " +
+                    "admin_count = admin_count + VALUES(admin_count)";
+
+    private static final String UPSERT_ERROR_ROLLUP_SQL =
+            "INSERT INTO traffic_error_rollup (granularity, bucket_start, uri, error_code, error_count) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE error_count = error_count + VALUES(error_count)";
+
+    // 정상 요청 조건 (HTTP 200 + 비즈니스 오류 코드 없음)
+    private static final String SUCCESS_CONDITION =
+            "http_status = 200 AND (business_error_code IS NULL OR TRIM(business_error_code) = '')";
+
+    // 원본 로그 → 버킷 재계산용 SQL (%s: DATE_FORMAT 버킷 포맷)
+    private static final String REBUILD_ROLLUP_SQL =
+            "INSERT INTO traffic_rollup (granularity, bucket_start, uri, http_method, request_count, success_count, " +
+                    "exception_2xx_count, client_error_count, server_error_count, other_status_count, " +
+                    "response_time_sum, response_time_max, db_query_sum, admin_count) " +
+                    "SELECT ?, DATE_FORMAT(created_at, '%s') AS bucket, uri, http_method, COUNT(*), " +
+                    "SUM(CASE WHEN " + SUCCESS_CONDITION + " THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN http_status BETWEEN 200 AND 299 AND NOT (" + SUCCESS_CONDITION + ") THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN http_status BETWEEN 400 AND 499 THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN http_status BETWEEN 500 AND 599 THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN http_status NOT BETWEEN 200 AND 299 AND http_status NOT BETWEEN 400 AND 599 THEN 1 ELSE 0 END), " +
+                    "SUM(response_time_ms), MAX(response_time_ms), SUM(db_query_count), " +
+                    "SUM(CASE WHEN is_admin = 1 THEN 1 ELSE 0 END) " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= ? AND created_at < ? " +
+                    "GROUP BY bucket, uri, http_method";
+
+    private static final String REBUILD_ERROR_ROLLUP_SQL =
+            "INSERT INTO traffic_error_rollup (granularity, bucket_start, uri, error_code, error_count) " +
+                    "SELECT ?, DATE_FORMAT(created_at, '%s') AS bucket, uri, business_error_code, COUNT(*) " +
+                    "FROM traffic_log " +
+                    "WHERE created_at >= ? AND created_at < ? " +
+                    "AND business_error_code IS NOT NULL AND TRIM(business_error_code) <> '' " +
+                    "GROUP BY bucket, uri, business_error_code";
+
+    private static final String HOUR_FORMAT = "%Y-%m-%d %H:00:00";
+
+    // 로그 배치를 시간 버킷으로 접어서 upsert
+    @Transactional
+    public void accumulate(List<TrafficLogEntity> logs) {
+        Map<BucketKey, BucketCounter> buckets = new HashMap<>();
+        Map<ErrorBucketKey, Long> errorBuckets = new HashMap<>();
+
+        for (TrafficLogEntity log : logs) {
+            LocalDateTime bucketStart = log.getCreatedAt().truncatedTo(ChronoUnit.HOURS);
+
+            buckets.computeIfAbsent(new BucketKey(Granularity.HOUR, bucketStart, log.getUri(), log.getHttpMethod()),
+                    k -> new BucketCounter()).add(log);
+
+            if (TrafficStatsAggregate.hasBusinessError(log.getBusinessErrorCode())) {
+                errorBuckets.merge(new ErrorBucketKey(Granularity.HOUR, bucketStart, log.getUri(), log.getBusinessErrorCode()),
+                        1L, Long::sum);
+            }
+        }
+
+        List<Object[]> rollupArgs = new ArrayList<>(buckets.size());
+        buckets.forEach((key, c) -> rollupArgs.add(new Object[]{
+                key.granularity.name(), Timestamp.valueOf(key.bucketStart), key.uri, key.httpMethod,
+                c.requestCount, c.successCount, c.exception2xxCount, c.clientErrorCount, c.serverErrorCount,
+                c.otherStatusCount, c.responseTimeSum, c.responseTimeMax, c.dbQuerySum, c.adminCount
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rollupArgs);
+
+        if (!errorBuckets.isEmpty()) {
+            List<Object[]> errorArgs = new ArrayList<>(errorBuckets.size());
+            errorBuckets.forEach((key, count) -> errorArgs.add(new Object[]{
+                    key.granularity.name(), Timestamp.valueOf(key.bucketStart), key.uri, key.errorCode, count
+            }));
+            jdbcTemplate.batchUpdate(UPSERT_ERROR_ROLLUP_SQL, errorArgs);
+        }
+    }
+
+    // 원본 로그로부터 [startDate, endDate] 기간의 버킷을 다시 계산
+    // 현재 기록 중인 버킷을 포함하면 재계산 도중 저장된 로그가 중복 집계될 수 있으므로 지난 기간에 사용
+    @Transactional
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        LocalDate earliest = earliestRebuildableDate();
+        if (earliest != null && startDate.isBefore(earliest)) {
+            throw new InvalidRollupRangeException(
+                    "원본 로그가 보관되었거나 삭제된 기간은 재계산할 수 없습니다. 시작일은 " + earliest + " 이후여야 합니다.");
+        }
+
+        Timestamp from = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(endDate.plusDays(1).atStartOfDay());
+
+        int deleted = jdbcTemplate.update("DELETE FROM traffic_rollup WHERE bucket_start >= ? AND bucket_start < ?", from, to);
+        int deletedErrors = jdbcTemplate.update("DELETE FROM traffic_error_rollup WHERE bucket_start >= ? AND bucket_start < ?", from, to);
+
+        int inserted = jdbcTemplate.update(String.format(REBUILD_ROLLUP_SQL, HOUR_FORMAT), Granularity.HOUR.name(), from, to);
+        inserted += jdbcTemplate.update(String.format(REBUILD_ERROR_ROLLUP_SQL, HOUR_FORMAT), Granularity.HOUR.name(), from, to);
+
+        log.info("[TrafficRollup] 재계산 완료 - 기간: {} ~ {}, 삭제: {}건, 생성: {}건",
+                startDate, endDate, deleted + deletedErrors, inserted);
+    }
+
+    // 원본 로그가 DB 에 온전히 남아 있는 가장 오래된 날짜 (제한이 없으면 null)
+    // - 보관 사용 시: horizon 이전 날짜는 보관 작업이 DB 에서 삭제 (진행 중인 날짜는 일부만 남아 있을 수 있음)
+    // - 보관 미사용 + 실제 파티션 테이블: retention-days 이전 파티션은 삭제됨 (비파티션 테이블이면 삭제되지 않음)
+    private LocalDate earliestRebuildableDate() {
+        if (archiveEnabled) {
+            return LocalDate.now().minusDays(archiveHorizonDays);
+        }
+        return partitionManager.retentionCutoff();
+    }
+
+    // 시간 단위 버킷으로 [start, endExclusive) 기간 통계 계산
+    @Transactional(readOnly = true)
+    public TrafficStatsAggregate aggregate(LocalDateTime start, LocalDateTime endExclusive, String uri) {
+        QTrafficRollupEntity r = QTrafficRollupEntity.trafficRollupEntity;
+        QTrafficErrorRollupEntity e = QTrafficErrorRollupEntity.trafficErrorRollupEntity;
+
+        BooleanBuilder rollupCondition = new BooleanBuilder()
+                .and(r.granularity.eq(Granularity.HOUR))
+                .and(r.bucketStart.goe(start))
+                .and(r.bucketStart.lt(endExclusive));
+        BooleanBuilder errorCondition = new BooleanBuilder()
+                .and(e.granularity.eq(Granularity.HOUR))
+                .and(e.bucketStart.goe(start))
+                .and(e.bucketStart.lt(endExclusive));
+        if (uri != null && !uri.isBlank()) {
+            rollupCondition.and(r.uri.contains(uri));
+            errorCondition.and(e.uri.contains(uri));
+        }
+
+        // 전체 합계
+        Tuple sums = queryFactory.select(
+                        r.requestCount.sum(),
+                        r.successCount.sum(),
+                        r.exception2xxCount.sum(),
+                        r.clientErrorCount.sum(),
+                        r.serverErrorCount.sum(),
+                        r.otherStatusCount.sum(),
+                        r.responseTimeSum.sum(),
+                        r.dbQuerySum.sum(),
+                        r.adminCount.sum())
+                .from(r)
+                .where(rollupCondition)
+                .fetchOne();
+
+        long total = sums != null ? nvl(sums.get(r.requestCount.sum())) : 0L;
+        long success = sums != null ? nvl(sums.get(r.successCount.sum())) : 0L;
+
+        Map<String, Long> statusGroupMap = new HashMap<>();
+        if (sums != null) {
+            putIfPositive(statusGroupMap, TrafficStatsAggregate.SUCCESS_2XX, success);
+            putIfPositive(statusGroupMap, TrafficStatsAggregate.EXCEPTION_2XX, nvl(sums.get(r.exception2xxCount.sum())));
+            putIfPositive(statusGroupMap, TrafficStatsAggregate.CLIENT_ERROR, nvl(sums.get(r.clientErrorCount.sum())));
+            putIfPositive(statusGroupMap, TrafficStatsAggregate.SERVER_ERROR, nvl(sums.get(r.serverErrorCount.sum())));
+            putIfPositive(statusGroupMap, TrafficStatsAggregate.OTHER, nvl(sums.get(r.otherStatusCount.sum())));
+        }
+
+        // HTTP 메서드별 요청 수
+        Map<String, Long> methodMap = new HashMap<>();
+        queryFactory.select(r.httpMethod, r.requestCount.sum())
+                .from(r)
+                .where(rollupCondition)
+                .groupBy(r.httpMethod)
+                .fetch()
+                .forEach(t -> putIfPositive(methodMap, t.get(r.httpMethod), nvl(t.get(r.requestCount.sum()))));
+
+        // 비즈니스 오류 코드 TOP 5
+        NumberExpression<Long> errorCount = e.errorCount.sum();
+        Map<String, Long> errorTopN = new LinkedHashMap<>();
+        queryFactory.select(e.errorCode, errorCount)
+                .from(e)
+                .where(errorCondition)
+                .groupBy(e.errorCode)
+                .orderBy(errorCount.desc())
+                .limit(5)
+                .fetch()
+                .forEach(t -> errorTopN.put(t.get(e.errorCode), nvl(t.get(errorCount))));
+
+        return TrafficStatsAggregate.builder()
+                .totalCount(total)
+                .methodCountMap(methodMap)
+                .statusCodeGroupMap(statusGroupMap)
+                .businessErrorTopN(errorTopN)
+                .responseTimeSum(sums != null ? nvl(sums.get(r.responseTimeSum.sum())) : 0L)
+                .dbQuerySum(sums != null ? nvl(sums.get(r.dbQuerySum.sum())) : 0L)
+                .adminCount(sums != null ? nvl(sums.get(r.adminCount.sum())) : 0L)
+                .successCount(success)
+                .build();
+    }
+
+    // 이전 버전이 기록한 분 단위 버킷 정리 (매일 새벽 3시 30분, 남은 행이 없으면 아무것도 하지 않음)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeMinuteBuckets() {
+        int deleted = jdbcTemplate.update("DELETE FROM traffic_rollup WHERE granularity = 'MINUTE'");
+        int deletedErrors = jdbcTemplate.update("DELETE FROM traffic_error_rollup WHERE granularity = 'MINUTE'");
+        if (deleted + deletedErrors > 0) {
+            log.info("[TrafficRollup] 분 단위 버킷 정리 - 삭제: {}건", deleted + deletedErrors);
+        }
+    }
+
+    private static long nvl(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static void putIfPositive(Map<String, Long> map, String key, long value) {
+        if (value > 0) {
+            map.put(key, value);
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class BucketKey {
+        private final Granularity granularity;
+        private final LocalDateTime bucketStart;
+        private final String uri;
+        private final String httpMethod;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class ErrorBucketKey {
+        private final Granularity granularity;
+        private final LocalDateTime bucketStart;
+        private final String uri;
+        private final String errorCode;
+    }
+
+    private static class BucketCounter {
+        private long requestCount;
+        private long successCount;
+        private long exception2xxCount;
+        private long clientErrorCount;
+        private long serverErrorCount;
+        private long otherStatusCount;
+        private long responseTimeSum;
+        private int responseTimeMax;
+        private long dbQuerySum;
+        private long adminCount;
+
+        private void add(TrafficLogEntity log) {
+            requestCount++;
+            switch (TrafficStatsAggregate.statusGroupOf(log.getHttpStatus(), log.getBusinessErrorCode())) {
+                case TrafficStatsAggregate.SUCCESS_2XX: successCount++; break;
+                case TrafficStatsAggregate.EXCEPTION_2XX: exception2xxCount++; break;
+                case TrafficStatsAggregate.CLIENT_ERROR: clientErrorCount++; break;
+                case TrafficStatsAggregate.SERVER_ERROR: serverErrorCount++; break;
+                default: otherStatusCount++; break;
+            }
+            responseTimeSum += log.getResponseTimeMs();
+            responseTimeMax = Math.max(responseTimeMax, log.getResponseTimeMs());
+            dbQuerySum += log.getDbQueryCount();
+            if (log.isAdmin()) {
+                adminCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.traffic;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 트래픽 통계 집계 결과 (집계 방식과 무관한 중간 결과)
+ * TrafficLogService 에서 비율/평균을 계산해 TrafficStatsResponseDto 로 변환한다.
+ */
+@Getter
+@Builder
+public class TrafficStatsAggregate {
+    private long totalCount;
+    private Map<String, Long> methodCountMap;
+    private Map<String, Long> statusCodeGroupMap;
+    private Map<String, Long> businessErrorTopN;
+    private long responseTimeSum;
+    private long dbQuerySum;
+    private long adminCount;
+    private long successCount;
+
+    // 상태 코드 그룹 키 (TrafficStatsResponseDto.statusCodeGroupMap 과 동일)
+    public static final String SUCCESS_2XX = "2xx_success";
+    public static final String EXCEPTION_2XX = "2xx_exception";
+    public static final String CLIENT_ERROR = "4xx";
+    public static final String SERVER_ERROR = "5xx";
+    public static final String OTHER = "other";
+
+    // 비즈니스 오류 코드 존재 여부 (빈 문자열은 오류 없음으로 간주)
+    public static boolean hasBusinessError(String businessErrorCode) {
+        return businessErrorCode != null && !businessErrorCode.trim().isEmpty();
+    }
+
+    // 상태 코드 그룹 분류: 2xx 정상, 2xx 예외, 4xx, 5xx, 기타
+    public static String statusGroupOf(int status, String businessErrorCode) {
+        if (status >= 200 && status < 300) {
+            return status == 200 && !hasBusinessError(businessErrorCode) ? SUCCESS_2XX : EXCEPTION_2XX;
+        } else if (status >= 400 && status < 500) {
+            return CLIENT_ERROR;
+        } else if (status >= 500 && status < 600) {
+            return SERVER_ERROR;
+        }
+        return OTHER;
+    }
+}
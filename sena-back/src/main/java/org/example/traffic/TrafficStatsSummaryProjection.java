@@ -0,0 +1,13 @@
+package org.example.traffic;
+
+public interface TrafficStatsSummaryProjection {
+    Long getTotalCount();
+    Long getSuccessCount();
+    Long getException2xxCount();
+    Long getClientErrorCount();
+    Long getServerErrorCount();
+    Long getOtherStatusCount();
+    Long getResponseTimeSum();
+    Long getDbQuerySum();
+    Long getAdminCount();
+}
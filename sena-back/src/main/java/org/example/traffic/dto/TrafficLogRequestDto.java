@@ -14,4 +14,6 @@ public class TrafficLogRequestDto {
     private String searchWord;  // userId 포함 검색 및 errorStatus 검색 시 연계용
     private int page = 0;
     private int size = 30;
+    private String cursor;          // 커서 기반 조회 시 이전 응답의 nextCursor (첫 페이지는 비움)
+    private boolean includeTotal;   // 커서 기반 조회 시 전체 건수 포함 여부
 }
@@ -7,4 +7,5 @@ public class TrafficStatsRequestDto {
     private String uri;         // 포함 검색
     private String startDate;   // yyyyMMdd
     private String endDate;     // yyyyMMdd
+    private String mode = "ROLLUP"; // ROLLUP(사전 집계 테이블), SQL(원본 로그 DB 집계), RAW(원본 로그 메모리 집계)
 }
@@ -0,0 +1,121 @@
+package org.example.admin.editor;
+
+import org.example.admin.dto.ItemBulkRowDto;
+import org.example.admin.dto.PackageBulkRowDto;
+import org.example.exception.customException.ValidationFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkCsvParserTest {
+
+    @Test
+    void parsesItemsWithOptionalColumns() {
+        List<ItemBulkRowDto> rows = BulkCsvParser.parseItems(
+                "itemId,itemName,ruby,message\n" +
+                        ",새 아이템,100,\n" +
+                        "7,,12.5,루비 조정\n");
+
+        assertEquals(2, rows.size());
+        assertNull(rows.get(0).getItemId());
+        assertEquals("새 아이템", rows.get(0).getItemName());
+        assertEquals(100.0, rows.get(0).getRuby());
+        assertNull(rows.get(0).getMessage());
+
+        assertEquals(7L, rows.get(1).getItemId());
+        assertNull(rows.get(1).getItemName());
+        assertEquals(12.5, rows.get(1).getRuby());
+        assertEquals("루비 조정", rows.get(1).getMessage());
+    }
+
+    @Test
+    void quotedValuesKeepCommasNewlinesAndQuotes() {
+        List<ItemBulkRowDto> rows = BulkCsvParser.parseItems(
+                "itemName,ruby,message\r\n" +
+                        "\"검, 방패\",10,\"첫 줄\n둘째 줄\"\r\n" +
+                        "\"\"\"전설\"\" 반지\",20,\r\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("검, 방패", rows.get(0).getItemName());
+        assertEquals("첫 줄\n둘째 줄", rows.get(0).getMessage());
+        assertEquals("\"전설\" 반지", rows.get(1).getItemName());
+    }
+
+    @Test
+    void stripsBomAndMatchesHeadersCaseInsensitively() {
+        List<ItemBulkRowDto> rows = BulkCsvParser.parseItems("\uFEFFITEMNAME, Ruby\n아이템,5");
+
+        assertEquals(1, rows.size());
+        assertEquals("아이템", rows.get(0).getItemName());
+        assertEquals(5.0, rows.get(0).getRuby());
+    }
+
+    @Test
+    void skipsBlankLines() {
+        List<ItemBulkRowDto> rows = BulkCsvParser.parseItems("itemName,ruby\n\n아이템,5\n\n");
+
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    void missingRequiredColumnIsRejected() {
+        ValidationFailedException e = assertThrows(ValidationFailedException.class,
+                () -> BulkCsvParser.parseItems("itemName\n아이템"));
+
+        assertTrue(e.getFieldErrors().get("csv").contains("ruby"));
+    }
+
+    @Test
+    void emptyInputIsRejected() {
+        ValidationFailedException e = assertThrows(ValidationFailedException.class,
+                () -> BulkCsvParser.parseItems(""));
+
+        assertTrue(e.getFieldErrors().containsKey("csv"));
+    }
+
+    @Test
+    void invalidNumbersAreReportedPerRow() {
+        ValidationFailedException e = assertThrows(ValidationFailedException.class,
+                () -> BulkCsvParser.parseItems("itemId,itemName,ruby\nabc,아이템,5\n,아이템2,many"));
+
+        assertTrue(e.getFieldErrors().containsKey("rows[0].itemId"));
+        assertTrue(e.getFieldErrors().containsKey("rows[1].ruby"));
+    }
+
+    @Test
+    void parsesPackageItems() {
+        List<PackageBulkRowDto> rows = BulkCsvParser.parsePackages(
+                "packageId,packageName,packagePrice,items\n" +
+                        "3,패키지,9900,\"3:2; 7:1;\"\n");
+
+        PackageBulkRowDto row = rows.get(0);
+        assertEquals(3L, row.getPackageId());
+        assertEquals(9900.0, row.getPackagePrice());
+        assertEquals(2, row.getItems().size());
+        assertEquals(3L, row.getItems().get(0).getItemId());
+        assertEquals(2L, row.getItems().get(0).getQuantity());
+        assertEquals(7L, row.getItems().get(1).getItemId());
+        assertEquals(1L, row.getItems().get(1).getQuantity());
+    }
+
+    @Test
+    void emptyPackageItemsBecomeEmptyList() {
+        List<PackageBulkRowDto> rows = BulkCsvParser.parsePackages("packageName,packagePrice,items\n패키지,100,");
+
+        assertTrue(rows.get(0).getItems().isEmpty());
+    }
+
+    @Test
+    void malformedPackageItemsAreRejected() {
+        ValidationFailedException e = assertThrows(ValidationFailedException.class,
+                () -> BulkCsvParser.parsePackages(
+                        "packageName,packagePrice,items\n" +
+                                "패키지,100,3-2\n" +
+                                "패키지2,100,x:1\n"));
+
+        assertTrue(e.getFieldErrors().get("rows[0].items").contains("3-2"));
+        assertTrue(e.getFieldErrors().containsKey("rows[1].items"));
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.admin.editor;
+
+import org.example.admin.all.AdminIdentity;
+import org.example.admin.all.AdminIdentityCache;
+import org.example.admin.dto.BulkResultDto;
+import org.example.admin.dto.ItemBulkRowDto;
+import org.example.admin.dto.PackageBulkRowDto;
+import org.example.admin.dto.PackageItemCreateDto;
+import org.example.admin.entity.AdminEntity;
+import org.example.admin.repository.AdminRepository;
+import org.example.common.CatalogChangedEvent;
+import org.example.entity.BaseEntity;
+import org.example.entity.ItemEntity;
+import org.example.entity.PackageEntity;
+import org.example.exception.customException.ValidationFailedException;
+import org.example.repository.ItemRepository;
+import org.example.repository.PackageItemRepository;
+import org.example.repository.PackageRepository;
+import org.example.repository.UpdateLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EditorBulkServiceTest {
+
+    private static final String EMAIL = "editor@example.com";
+
+    private AdminRepository adminRepository;
+    private ItemRepository itemRepository;
+    private PackageRepository packageRepository;
+    private PackageItemRepository packageItemRepository;
+    private UpdateLogRepository updateLogRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EditorBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        adminRepository = mock(AdminRepository.class);
+        itemRepository = mock(ItemRepository.class);
+        packageRepository = mock(PackageRepository.class);
+        packageItemRepository = mock(PackageItemRepository.class);
+        updateLogRepository = mock(UpdateLogRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        AdminIdentityCache adminIdentityCache = mock(AdminIdentityCache.class);
+
+        AdminEntity admin = AdminEntity.builder().adminId(1L).email(EMAIL).role(AdminEntity.Role.EDITOR).build();
+        when(adminIdentityCache.find(EMAIL)).thenReturn(Optional.of(AdminIdentity.from(admin)));
+        when(adminRepository.getReferenceById(1L)).thenReturn(admin);
+        when(itemRepository.findAllById(anyIterable())).thenReturn(Collections.emptyList());
+        when(itemRepository.findByItemNameInAndStatusNot(anyCollection(), any())).thenReturn(Collections.emptyList());
+        when(packageRepository.findByPackageNameInAndStatusNot(anyCollection(), any())).thenReturn(Collections.emptyList());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, null, Collections.emptyList()));
+
+        service = new EditorBulkService(adminRepository, itemRepository, packageRepository, packageItemRepository,
+                updateLogRepository, eventPublisher, adminIdentityCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createsNewItems() {
+        BulkResultDto result = service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemName("검").ruby(10.0).build(),
+                ItemBulkRowDto.builder().itemName("방패").ruby(20.0).build()));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(0, result.getUpdated());
+        verify(itemRepository).saveAll(argThat((List<ItemEntity> items) -> items.size() == 2));
+        verify(eventPublisher, times(1)).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void caseOnlyRenameOfOwnNameIsAllowed() {
+        ItemEntity sword = item(5L, "Sword");
+        when(itemRepository.findAllById(anyIterable())).thenReturn(List.of(sword));
+        // DB 콜레이션은 대소문자를 무시하므로 "sword" 조회에 "Sword" 가 반환됨
+        when(itemRepository.findByItemNameInAndStatusNot(anyCollection(), any())).thenReturn(List.of(sword));
+
+        BulkResultDto result = service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemId(5L).itemName("sword").build()));
+
+        assertEquals(1, result.getUpdated());
+        assertEquals("sword", sword.getItemName());
+    }
+
+    @Test
+    void nameConflictWithAnotherItemIgnoresCaseAndTrailingSpaces() {
+        when(itemRepository.findByItemNameInAndStatusNot(anyCollection(), any())).thenReturn(List.of(item(9L, "Sword")));
+
+        ValidationFailedException e = assertThrows(ValidationFailedException.class, () -> service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemName("방패").ruby(1.0).build(),
+                ItemBulkRowDto.builder().itemName("sword ").ruby(1.0).build())));
+
+        assertEquals(Collections.singleton("rows[1].itemName"), e.getFieldErrors().keySet());
+    }
+
+    @Test
+    void conflictThatCannotBeMatchedToARowStillFailsValidation() {
+        // DB 가 악센트까지 무시해서 돌려준 이름 - 요청의 어느 행과도 키가 같지 않음
+        when(itemRepository.findByItemNameInAndStatusNot(anyCollection(), any())).thenReturn(List.of(item(9L, "Épée")));
+
+        ValidationFailedException e = assertThrows(ValidationFailedException.class, () -> service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemName("Epee").ruby(1.0).build())));
+
+        assertTrue(e.getFieldErrors().containsKey("rows"));
+    }
+
+    @Test
+    void duplicateNamesInsideRequestIgnoreCase() {
+        ValidationFailedException e = assertThrows(ValidationFailedException.class, () -> service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemName("Sword").ruby(1.0).build(),
+                ItemBulkRowDto.builder().itemName("SWORD").ruby(1.0).build())));
+
+        assertTrue(e.getFieldErrors().containsKey("rows[1].itemName"));
+    }
+
+    @Test
+    void oneInvalidRowRejectsTheWholeRequest() {
+        ItemEntity sword = item(5L, "Sword");
+        when(itemRepository.findAllById(anyIterable())).thenReturn(List.of(sword));
+
+        ValidationFailedException e = assertThrows(ValidationFailedException.class, () -> service.upsertItems(List.of(
+                ItemBulkRowDto.builder().itemId(5L).ruby(30.0).build(),
+                ItemBulkRowDto.builder().itemName("방패").ruby(-1.0).build(),
+                ItemBulkRowDto.builder().itemId(404L).build())));
+
+        assertTrue(e.getFieldErrors().containsKey("rows[1].ruby"));
+        assertTrue(e.getFieldErrors().containsKey("rows[2].itemId"));
+        // 올바른 행도 반영되지 않음
+        assertEquals(10.0, sword.getRuby());
+        verify(itemRepository, never()).saveAll(any());
+        verifyNoInteractions(updateLogRepository, eventPublisher);
+    }
+
+    @Test
+    void tooManyRowsAreRejected() {
+        List<ItemBulkRowDto> rows = new ArrayList<>();
+        for (int i = 0; i <= EditorBulkService.MAX_ROWS; i++) {
+            rows.add(ItemBulkRowDto.builder().itemName("아이템" + i).ruby(1.0).build());
+        }
+
+        assertThrows(ValidationFailedException.class, () -> service.upsertItems(rows));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void packageNameConflictIgnoresCase() {
+        PackageEntity existing = PackageEntity.builder().packageId(3L).packageName("Starter").status(BaseEntity.Status.ACTIVE).build();
+        when(packageRepository.findByPackageNameInAndStatusNot(anyCollection(), any())).thenReturn(List.of(existing));
+        when(itemRepository.findAllById(anyIterable())).thenReturn(List.of(item(5L, "Sword")));
+
+        ValidationFailedException e = assertThrows(ValidationFailedException.class, () -> service.upsertPackages(List.of(
+                PackageBulkRowDto.builder()
+                        .packageName("STARTER")
+                        .packagePrice(1000.0)
+                        .items(List.of(PackageItemCreateDto.builder().itemId(5L).quantity(1L).build()))
+                        .build())));
+
+        assertEquals(Collections.singleton("rows[0].packageName"), e.getFieldErrors().keySet());
+        verify(packageRepository, never()).saveAll(any());
+    }
+
+    private static ItemEntity item(Long id, String name) {
+        return ItemEntity.builder()
+                .itemId(id)
+                .itemName(name)
+                .ruby(10.0)
+                .status(BaseEntity.Status.ACTIVE)
+                .build();
+    }
+}
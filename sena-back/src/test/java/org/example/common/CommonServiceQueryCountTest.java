@@ -0,0 +1,150 @@
+package org.example.common;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.admin.entity.AdminEntity;
+import org.example.common.dto.PackageDto;
+import org.example.common.dto.PackageListResponseDto;
+import org.example.entity.BaseEntity;
+import org.example.entity.ItemEntity;
+import org.example.entity.PackageEntity;
+import org.example.entity.PackageItemEntity;
+import org.example.entity.UpdateLogEntity;
+import org.example.repository.ItemRepository;
+import org.example.repository.PackageRepository;
+import org.example.repository.UpdateLogRepository;
+import org.example.traffic.QueryCountHolder;
+import org.example.traffic.QueryCounterListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 공개 패키지 목록 조회 쿼리 수 회귀 테스트
+ * - 패키지/구성품 수와 관계없이 패키지+구성품+아이템 1회, 마지막 수정 시각 1회로 끝나야 한다.
+ * - 운영과 같은 방식(datasource-proxy + QueryCounterListener)으로 H2 에서 쿼리 수를 센다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CommonServiceQueryCountTest {
+
+    private static final int PACKAGE_COUNT = 5;
+    private static final int ITEMS_PER_PACKAGE = 4;
+
+    @TestConfiguration
+    static class QueryCountingDataSourceConfig {
+        @Bean
+        DataSource dataSource() {
+            DriverManagerDataSource h2 = new DriverManagerDataSource(
+                    "jdbc:h2:mem:catalog;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            return ProxyDataSourceBuilder.create(h2)
+                    .listener(new QueryCounterListener())
+                    .build();
+        }
+    }
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PackageRepository packageRepository;
+
+    @Autowired
+    private UpdateLogRepository updateLogRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.reset();
+    }
+
+    @Test
+    void getPackagesRunsFixedNumberOfQueries() {
+        LocalDateTime latest = seed();
+        CommonService service = new CommonService(itemRepository, packageRepository, updateLogRepository);
+
+        QueryCountHolder.reset();
+        PackageListResponseDto response = service.getPackages();
+        int queries = QueryCountHolder.getCount();
+
+        assertEquals(2, queries, "패키지 수에 비례해 쿼리가 늘어나면 안 됨");
+        assertEquals(PACKAGE_COUNT, response.getPackages().size());
+
+        // 비활성 구성품 1개는 제외
+        PackageDto first = response.getPackages().get(0);
+        assertEquals(ITEMS_PER_PACKAGE - 1, first.getItems().size());
+        assertEquals(latest.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+                response.getLastUpdatedAt());
+    }
+
+    // 패키지마다 구성품 ITEMS_PER_PACKAGE 개(마지막 1개는 비활성)와 수정 로그 2건 생성, 가장 최근 로그 시각 반환
+    private LocalDateTime seed() {
+        AdminEntity admin = AdminEntity.builder()
+                .name("tester").role(AdminEntity.Role.EDITOR).dept("dev")
+                .email("tester@example.org").tel("010-0000-0000").password("x")
+                .status(BaseEntity.Status.ACTIVE)
+                .build();
+        em.persist(admin);
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        LocalDateTime latest = base;
+        for (int p = 0; p < PACKAGE_COUNT; p++) {
+            PackageEntity pkg = PackageEntity.builder()
+                    .packageName("package-" + p)
+                    .packagePrice(10_000.0)
+                    .status(BaseEntity.Status.ACTIVE)
+                    .build();
+            em.persist(pkg);
+
+            for (int i = 0; i < ITEMS_PER_PACKAGE; i++) {
+                ItemEntity item = ItemEntity.builder()
+                        .itemName("item-" + p + "-" + i)
+                        .ruby(100.0)
+                        .status(BaseEntity.Status.ACTIVE)
+                        .build();
+                em.persist(item);
+
+                PackageItemEntity packageItem = PackageItemEntity.builder()
+                        .packageEntity(pkg)
+                        .item(item)
+                        .quantity(2L)
+                        .status(i == ITEMS_PER_PACKAGE - 1 ? BaseEntity.Status.INACTIVE : BaseEntity.Status.ACTIVE)
+                        .build();
+                em.persist(packageItem);
+            }
+
+            for (int l = 0; l < 2; l++) {
+                LocalDateTime updatedAt = base.plusMinutes(p * 10L + l);
+                em.persist(UpdateLogEntity.builder()
+                        .updatedAt(updatedAt)
+                        .message("수정 " + l)
+                        .admin(admin)
+                        .packageEntity(pkg)
+                        .build());
+                latest = updatedAt.isAfter(latest) ? updatedAt : latest;
+            }
+        }
+
+        em.flush();
+        em.clear();
+        return latest;
+    }
+}
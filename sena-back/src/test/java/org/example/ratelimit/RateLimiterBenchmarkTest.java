@@ -0,0 +1,186 @@
+package org.example.ratelimit;
+
+import org.example.redis.RedisIpRateLimitService;
+import org.example.redis.RedisIpRateLimitService.Verdict;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 제한 알고리즘별 판정 1회 비용 측정 (실제 Redis 필요 - 기본 테스트에서 제외)
+ * 요청 제한 Lua 스크립트의 동작(한도, 차단, TTL 복구)도 실제 Redis 에서 함께 확인한다.
+ * ./gradlew benchmarkTest -Dbenchmark.redis.host=localhost [-Dbenchmark.redis.port=6379]
+ * (시작 시 현재 DB 를 비우므로 반드시 벤치마크 전용 Redis 를 사용할 것)
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.redis.host", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RateLimiterBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int THREADS = 8;
+    private static final int IP_COUNT = 1_000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private Map<RateLimitAlgorithm, RateLimiter> limiters;
+
+    @BeforeAll
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host"),
+                Integer.parseInt(System.getProperty("benchmark.redis.port", "6379"))));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+
+        RedisIpRateLimitService service = new RedisIpRateLimitService(redisTemplate);
+        limiters = new EnumMap<>(RateLimitAlgorithm.class);
+        limiters.put(RateLimitAlgorithm.FIXED_WINDOW, new FixedWindowRateLimiter(service));
+        limiters.put(RateLimitAlgorithm.SLIDING_WINDOW_LOG, new SlidingWindowLogRateLimiter(service));
+        limiters.put(RateLimitAlgorithm.SLIDING_WINDOW_COUNTER, new SlidingWindowCounterRateLimiter(service));
+        limiters.put(RateLimitAlgorithm.TOKEN_BUCKET, new TokenBucketRateLimiter(service));
+    }
+
+    @AfterAll
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void allowsExactlyLimitRequests(RateLimitAlgorithm algorithm) {
+        RateLimitPolicy policy = policy(algorithm, 10, Duration.ZERO);
+        RateLimiter limiter = limiters.get(algorithm);
+        String ip = "bench-limit-" + algorithm;
+
+        int allowed = 0;
+        for (int i = 0; i < 15; i++) {
+            if (limiter.tryAcquire(ip, policy) == Verdict.ALLOWED) {
+                allowed++;
+            }
+        }
+        assertEquals(10, allowed);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void concurrentOverLimitRequestsBlockIpOnce(RateLimitAlgorithm algorithm) throws Exception {
+        RateLimitPolicy policy = policy(algorithm, 10, Duration.ofMinutes(1));
+        RateLimiter limiter = limiters.get(algorithm);
+        String ip = "bench-block-" + algorithm;
+
+        // 한도를 넘는 요청을 여러 스레드에서 동시에 보냄
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<List<Verdict>>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(() -> {
+                List<Verdict> verdicts = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    verdicts.add(limiter.tryAcquire(ip, policy));
+                }
+                return verdicts;
+            });
+        }
+        Map<Verdict, Integer> counts = new EnumMap<>(Verdict.class);
+        for (Future<List<Verdict>> future : executor.invokeAll(tasks)) {
+            future.get().forEach(v -> counts.merge(v, 1, Integer::sum));
+        }
+        executor.shutdown();
+
+        // 한도만큼 허용, 차단 기록은 한 요청만, 나머지는 차단
+        assertEquals(10, counts.getOrDefault(Verdict.ALLOWED, 0));
+        assertEquals(1, counts.getOrDefault(Verdict.NEWLY_BLOCKED, 0));
+        assertEquals(THREADS * 10 - 11, counts.getOrDefault(Verdict.BLOCKED, 0));
+        assertTrue(redisTemplate.getExpire(RedisIpRateLimitService.blockedKey(ip)) > 0);
+    }
+
+    @Test
+    void fixedWindowRestoresMissingTtl() {
+        RateLimitPolicy policy = policy(RateLimitAlgorithm.FIXED_WINDOW, 10, Duration.ZERO);
+        String ip = "bench-ttl";
+        // 만료 설정 전에 끊겨 TTL 없이 남은 카운터
+        redisTemplate.opsForValue().set(policy.counterKey(ip), "3");
+
+        limiters.get(RateLimitAlgorithm.FIXED_WINDOW).tryAcquire(ip, policy);
+
+        assertEquals("4", redisTemplate.opsForValue().get(policy.counterKey(ip)));
+        assertTrue(redisTemplate.getExpire(policy.counterKey(ip)) > 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    void costPerDecision(RateLimitAlgorithm algorithm) throws Exception {
+        // 한도에 걸리지 않도록 큰 한도로 측정 (판정 비용만 비교)
+        RateLimitPolicy policy = policy(algorithm, 1_000_000, Duration.ZERO);
+        RateLimiter limiter = limiters.get(algorithm);
+
+        for (int i = 0; i < WARMUP; i++) {
+            limiter.tryAcquire("bench-" + (i % IP_COUNT), policy);
+        }
+
+        // 단일 스레드 지연 시간
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            limiter.tryAcquire("bench-" + (i % IP_COUNT), policy);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        // 다중 스레드 처리량
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            tasks.add(() -> {
+                for (int i = 0; i < ITERATIONS / THREADS; i++) {
+                    limiter.tryAcquire("bench-" + ((i + offset) % IP_COUNT), policy);
+                }
+                return null;
+            });
+        }
+        long start = System.nanoTime();
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("[benchmark] %-24s p50=%,d ns  p99=%,d ns  avg=%,d ns  throughput(%d threads)=%,.0f ops/s%n",
+                algorithm,
+                latencies[ITERATIONS / 2],
+                latencies[(int) (ITERATIONS * 0.99)],
+                Arrays.stream(latencies).sum() / ITERATIONS,
+                THREADS,
+                ITERATIONS / seconds);
+    }
+
+    private static RateLimitPolicy policy(RateLimitAlgorithm algorithm, int limit, Duration blockDuration) {
+        RateLimitPolicy policy = new RateLimitPolicy();
+        policy.setName("bench-" + algorithm.name().toLowerCase());
+        policy.setAlgorithm(algorithm);
+        policy.setLimit(limit);
+        policy.setWindow(Duration.ofMinutes(1));
+        policy.setBlockDuration(blockDuration);
+        return policy;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LocalTokenEpochCacheTest {
+
+    private static final String EMAIL = "admin@example.com";
+    private static final String EPOCH_KEY = LocalTokenEpochCache.EPOCH_PREFIX + EMAIL;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisCircuitBreaker circuitBreaker;
+    private LocalTokenEpochCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // 한 번 실패하면 OPEN, 충분히 긴 OPEN 유지 시간 (테스트 중 HALF_OPEN 전환 없음)
+        circuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry(), 1, 10_000, 60_000);
+        cache = new LocalTokenEpochCache(redisTemplate, mock(RedisMessageListenerContainer.class), circuitBreaker);
+    }
+
+    @Test
+    void currentEpochLoadsFromRedisWhenNotCached() {
+        when(valueOperations.get(EPOCH_KEY)).thenReturn("3");
+
+        assertEquals(3L, cache.currentEpoch(EMAIL));
+        assertEquals(3L, cache.currentEpoch(EMAIL));
+
+        // 두 번째 조회는 로컬 캐시 사용
+        verify(valueOperations, times(1)).get(EPOCH_KEY);
+    }
+
+    @Test
+    void currentEpochIsUnknownWhenRedisFailsAndNotCached() {
+        when(valueOperations.get(EPOCH_KEY)).thenThrow(new RuntimeException("connection refused"));
+
+        // 0 으로 간주하지 않음 (폐기된 토큰이 통과하지 않도록)
+        assertNull(cache.currentEpoch(EMAIL));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void currentEpochUsesCacheWhenRedisIsDown() {
+        when(valueOperations.get(EPOCH_KEY)).thenReturn("2");
+        cache.currentEpoch(EMAIL);
+
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("connection refused"));
+        assertNull(cache.currentEpoch("other@example.com"));
+
+        assertEquals(2L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void bumpAppliesReturnedEpochLocally() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(Collections.singletonList(EPOCH_KEY)),
+                eq(LocalTokenEpochCache.CHANNEL), eq(EMAIL))).thenReturn(Collections.singletonList(5L));
+
+        cache.bump(Collections.singletonList(EMAIL));
+
+        assertEquals(5L, cache.currentEpoch(EMAIL));
+        verify(valueOperations, never()).get(EPOCH_KEY);
+    }
+
+    @Test
+    void staleMessageDoesNotLowerEpoch() {
+        cache.onMessage(message(EMAIL + "|4"), null);
+        cache.onMessage(message(EMAIL + "|2"), null);
+
+        assertEquals(4L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void messageWithSeveralEntriesAndPipeInEmail() {
+        cache.onMessage(message("a|b@example.com|7\n" + EMAIL + "|1\nbroken"), null);
+
+        assertEquals(7L, cache.currentEpoch("a|b@example.com"));
+        assertEquals(1L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void resyncRaisesButNeverLowersEpoch() {
+        when(valueOperations.get(LocalTokenEpochCache.GENERATION_KEY)).thenReturn("gen-1");
+        cache.onMessage(message(EMAIL + "|4"), null);
+
+        // 조회 도중 bump 가 일어나 Redis 에서 읽은 값이 이전 값인 경우
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList("3"));
+        cache.resync();
+        assertEquals(4L, cache.currentEpoch(EMAIL));
+
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList("6"));
+        cache.resync();
+        assertEquals(6L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void resyncKeepsEpochWhenRedisKeyIsMissing() {
+        when(valueOperations.get(LocalTokenEpochCache.GENERATION_KEY)).thenReturn("gen-1");
+        cache.onMessage(message(EMAIL + "|4"), null);
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList(null));
+
+        cache.resync();
+
+        assertEquals(4L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void resyncRestoresEpochsAfterRedisReset() {
+        when(valueOperations.get(LocalTokenEpochCache.GENERATION_KEY)).thenReturn("gen-1");
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList("4"));
+        cache.onMessage(message(EMAIL + "|4"), null);
+        cache.resync();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+
+        // Redis 초기화 - 세대 키가 사라져 새로 만들어짐
+        when(valueOperations.get(LocalTokenEpochCache.GENERATION_KEY)).thenReturn(null, "gen-2");
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.singletonList("4"));
+        cache.resync();
+
+        verify(valueOperations).setIfAbsent(eq(LocalTokenEpochCache.GENERATION_KEY), anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(Collections.singletonList(EPOCH_KEY)), eq("4"));
+        assertEquals(4L, cache.currentEpoch(EMAIL));
+    }
+
+    @Test
+    void resyncDoesNothingWhileCircuitIsOpen() {
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("connection refused"));
+        cache.currentEpoch(EMAIL);
+        assertFalse(circuitBreaker.isClosed());
+
+        cache.resync();
+
+        verify(valueOperations, never()).multiGet(anyList());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(LocalTokenEpochCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -10,6 +10,10 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+/**
+ * RedisTemplate 위임만 확인하는 단위 테스트 (mock 이므로 Lua 스크립트는 실행되지 않음)
+ * 요청 제한 스크립트 동작은 실제 Redis 를 쓰는 RateLimiterBenchmarkTest 에서 확인한다.
+ */
 class RedisIpRateLimitServiceTest {
 
     private RedisTemplate<String, String> redisTemplate;
@@ -67,4 +71,4 @@ class RedisIpRateLimitServiceTest {
 
         verify(valueOperations).set("blocked_ip:1.2.3.4", "1", Duration.ofMinutes(10));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package org.example.traffic;
+
+import org.example.config.QuerydslConfig;
+import org.example.redis.BlockedIpService;
+import org.example.redis.LocalBlockedIpCache;
+import org.example.redis.RedisIpRateLimitService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 트래픽 통계 집계 방식 비교 (RAW: 엔티티 전체 조회 후 메모리 집계 / SQL: DB 집계)
+ * RAW 는 모든 엔티티를 메모리에 올리므로 RAW_MAX_ROWS 이하에서만 측정한다. (그보다 많으면 4g 힙에 들어가지 않음 - SQL 만 측정)
+ * 실제 MySQL 이 필요하므로 기본 테스트에서는 제외되고, 아래처럼 별도로 실행한다.
+ * ./gradlew benchmarkTest -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/sena_bench -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=...
+ * (traffic_log 테이블을 비우고 다시 채우므로 반드시 벤치마크 전용 DB 를 사용할 것)
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, TrafficLogService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=${benchmark.mysql.url}",
+        "spring.datasource.username=${benchmark.mysql.username:root}",
+        "spring.datasource.password=${benchmark.mysql.password:}",
+        "spring.jpa.hibernate.ddl-auto=update"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 대량 적재 데이터를 롤백하지 않음
+class TrafficStatsAggregationBenchmarkTest {
+
+    private static final int INSERT_CHUNK = 10_000;
+    private static final int RAW_MAX_ROWS = 1_000_000;
+    private static final String[] METHODS = {"GET", "GET", "GET", "POST", "PUT", "DELETE"};
+    private static final String[] URIS = {"/viewer/items", "/viewer/packages", "/editor/items", "/admin/traffic/logs", "/common/catalog"};
+    private static final int[] STATUSES = {200, 200, 200, 200, 200, 201, 400, 401, 404, 500, 302};
+    private static final String[] ERROR_CODES = {null, null, null, null, null, null, "ITEM_NOT_FOUND", "INVALID_INPUT", "DUPLICATE_NAME"};
+
+    // 통계 집계에 쓰이지 않는 의존성
+    @MockBean
+    private RedisIpRateLimitService redisIpRateLimitService;
+
+    @MockBean
+    private LocalBlockedIpCache localBlockedIpCache;
+
+    @MockBean
+    private BlockedIpService blockedIpService;
+
+    @MockBean
+    private TrafficRollupService trafficRollupService;
+
+    @MockBean
+    private TrafficLogArchiveStore trafficLogArchiveStore;
+
+    @Autowired
+    private TrafficLogService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 10_000_000})
+    void compareRawAndSqlAggregation(int rows) {
+        LocalDate day = LocalDate.of(2025, 1, 1);
+        seed(rows, day);
+
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime endExclusive = day.plusDays(1).atStartOfDay();
+
+        long sqlStart = System.nanoTime();
+        TrafficStatsAggregate sql = service.aggregateWithSql(start, endExclusive, null);
+        long sqlMs = (System.nanoTime() - sqlStart) / 1_000_000;
+        assertEquals(rows, sql.getTotalCount());
+
+        if (rows > RAW_MAX_ROWS) {
+            System.out.printf("[benchmark] rows=%,d  RAW=skipped (> %,d rows)  SQL=%,d ms%n", rows, RAW_MAX_ROWS, sqlMs);
+            return;
+        }
+
+        long rawStart = System.nanoTime();
+        TrafficStatsAggregate raw = service.aggregateFromRawLogs(day, day, null);
+        long rawMs = (System.nanoTime() - rawStart) / 1_000_000;
+
+        System.out.printf("[benchmark] rows=%,d  RAW=%,d ms  SQL=%,d ms%n", rows, rawMs, sqlMs);
+
+        // 두 방식의 결과가 같아야 함
+        assertEquals(raw.getTotalCount(), sql.getTotalCount());
+        assertEquals(raw.getSuccessCount(), sql.getSuccessCount());
+        assertEquals(raw.getAdminCount(), sql.getAdminCount());
+        assertEquals(raw.getResponseTimeSum(), sql.getResponseTimeSum());
+        assertEquals(raw.getDbQuerySum(), sql.getDbQuerySum());
+        assertEquals(raw.getMethodCountMap(), sql.getMethodCountMap());
+        assertEquals(raw.getStatusCodeGroupMap(), sql.getStatusCodeGroupMap());
+        assertEquals(raw.getBusinessErrorTopN(), sql.getBusinessErrorTopN());
+    }
+
+    // 하루 동안 고르게 분포된 로그를 JDBC 배치로 적재
+    private void seed(int rows, LocalDate day) {
+        jdbcTemplate.execute("TRUNCATE TABLE traffic_log");
+
+        Random random = new Random(42);
+        long msPerRow = Math.max(1, 86_400_000L / rows);
+        LocalDateTime base = day.atStartOfDay();
+        List<Object[]> chunk = new ArrayList<>(INSERT_CHUNK);
+
+        for (int i = 0; i < rows; i++) {
+            chunk.add(new Object[]{
+                    (long) i + 1,
+                    METHODS[random.nextInt(METHODS.length)],
+                    URIS[random.nextInt(URIS.length)],
+                    "10.0." + random.nextInt(256) + "." + random.nextInt(256),
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    ERROR_CODES[random.nextInt(ERROR_CODES.length)],
+                    random.nextInt(500),
+                    random.nextInt(10) == 0,
+                    random.nextInt(15),
+                    Timestamp.valueOf(base.plusNanos((i * msPerRow % 86_400_000L) * 1_000_000L))
+            });
+            if (chunk.size() == INSERT_CHUNK) {
+                insert(chunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(chunk);
+        }
+    }
+
+    private void insert(List<Object[]> chunk) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO traffic_log (id, http_method, uri, client_ip, http_status, business_error_code, " +
+                        "response_time_ms, is_admin, db_query_count, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                chunk);
+        chunk.clear();
+    }
+}